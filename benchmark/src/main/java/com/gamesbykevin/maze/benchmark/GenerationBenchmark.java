@@ -0,0 +1,144 @@
+package com.gamesbykevin.maze.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gamesbykevin.maze.benchmark.maze.BinaryTree;
+import com.gamesbykevin.maze.benchmark.maze.GrowingTree;
+import com.gamesbykevin.maze.benchmark.maze.Maze;
+import com.gamesbykevin.maze.benchmark.maze.MazeHelper;
+import com.gamesbykevin.maze.benchmark.maze.Prims;
+import com.gamesbykevin.maze.benchmark.maze.Sidewinder;
+
+/**
+ * Measure how each maze algorithm the labyrinth chooses from scales as the maze gets larger.<br>
+ * Each maze is generated one update at a time, the same as the labyrinth generator thread.<br>
+ * The peak heap is reported with the results, run with the gc profiler for the allocation rate, and write the results as json so they can be compared between builds:<br>
+ * java -jar target/benchmarks.jar -prof gc -rf json -rff generation.json<br>
+ * The largest sizes take a long time for the algorithms that count their progress every room, limit the sizes with -p size=10,40,100
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GenerationBenchmark
+{
+	/**
+	 * The algorithms the labyrinth can choose from
+	 */
+	public enum Algorithm
+	{
+		BinaryTree, GrowingTree, Sidewinder, Prims
+	}
+
+	/**
+	 * The number of columns and rows of each maze
+	 */
+	@Param({"10", "40", "100", "250", "500", "1000", "2000"})
+	public int size;
+
+	/**
+	 * The algorithm measured
+	 */
+	@Param
+	public Algorithm algorithm;
+
+	//random object used to generate the mazes
+	private Random random;
+
+	//a generated maze to locate the finish
+	private Maze generated;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		//the same mazes are measured each run
+		this.random = new Random(0);
+
+		this.generated = generate();
+	}
+
+	/**
+	 * Create the maze using the algorithm, the same as the labyrinth
+	 * @return The maze to be generated
+	 */
+	private Maze create()
+	{
+		switch (algorithm)
+		{
+			case BinaryTree:
+			default:
+				return new BinaryTree(size, size);
+
+			case GrowingTree:
+				return new GrowingTree(size, size);
+
+			case Sidewinder:
+				return new Sidewinder(size, size);
+
+			case Prims:
+				return new Prims(size, size);
+		}
+	}
+
+	/**
+	 * Generate a maze, the same as the labyrinth generator
+	 * @return The generated maze
+	 * @throws Exception
+	 */
+	private Maze generate() throws Exception
+	{
+		final Maze maze = create();
+		maze.setStartLocation(0, 0);
+
+		while (!maze.isGenerated())
+		{
+			maze.update(random);
+		}
+
+		return maze;
+	}
+
+	/**
+	 * Generate a maze
+	 * @param heap Reports the peak heap while generating
+	 * @return The generated maze
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Maze generation(final HeapCounter heap) throws Exception
+	{
+		return generate();
+	}
+
+	/**
+	 * Locate the finish of a generated maze, the same as the labyrinth once a maze is generated
+	 * @param blackhole Consumes the finish so it isn't optimized away
+	 * @throws Exception
+	 */
+	@Benchmark
+	public void locateFinish(final Blackhole blackhole) throws Exception
+	{
+		MazeHelper.locateFinish(generated);
+
+		blackhole.consume(generated.getFinishCol());
+		blackhole.consume(generated.getFinishRow());
+	}
+}
\ No newline at end of file
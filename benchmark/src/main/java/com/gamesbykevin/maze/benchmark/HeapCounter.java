@@ -0,0 +1,53 @@
+package com.gamesbykevin.maze.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Reports the peak heap used during each iteration, next to the results of the benchmark.<br>
+ * The peak of each heap pool is reset before the iteration and read after it.
+ * @author GOD
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class HeapCounter
+{
+	/**
+	 * The peak heap used during the iteration (bytes)
+	 */
+	public long peakHeap;
+
+	@Setup(Level.Iteration)
+	public void reset()
+	{
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			if (pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+		}
+
+		this.peakHeap = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void read()
+	{
+		long peak = 0;
+
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+		{
+			if (pool.getType() == MemoryType.HEAP)
+				peak += pool.getPeakUsage().getUsed();
+		}
+
+		this.peakHeap = peak;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.gamesbykevin.maze.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gamesbykevin.maze.benchmark.maze.GrowingTree;
+import com.gamesbykevin.maze.benchmark.maze.Maze;
+import com.gamesbykevin.maze.benchmark.maze.Room;
+import com.gamesbykevin.maze.benchmark.maze.Room.Wall;
+
+/**
+ * Measure the cost of choosing the tile of each room when the labyrinth is rendered.<br>
+ * The if-chain over the room walls (before the tile tables) is compared to the same chain over the wall bits, and to the tile tables.<br>
+ * Every room of a generated maze is resolved each invocation, the results are per tile:<br>
+ * java -jar target/benchmarks.jar TileBenchmark -rf json -rff tile.json
+ * @author GOD
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@OperationsPerInvocation(TileBenchmark.TILES)
+public class TileBenchmark
+{
+	/**
+	 * The tiles of the labyrinth, the same keys as the game
+	 */
+	public enum TileKey
+	{
+		IsometricNSEW, IsometricNWE, IsometricSWE, IsometricNSE, IsometricNWS,
+		IsometricWE, IsometricNW, IsometricSW, IsometricNE, IsometricSE, IsometricNS,
+		IsometricN, IsometricS, IsometricW, IsometricE,
+		TopDownNSEW, TopDownNWE, TopDownSWE, TopDownNSE, TopDownNWS,
+		TopDownWE, TopDownNW, TopDownSW, TopDownNE, TopDownSE, TopDownNS,
+		TopDownN, TopDownS, TopDownW, TopDownE
+	}
+
+	/**
+	 * The bit flags of each wall, the same as the labyrinth grid
+	 */
+	private static final int WALL_NORTH = 1;
+	private static final int WALL_SOUTH = 2;
+	private static final int WALL_EAST = 4;
+	private static final int WALL_WEST = 8;
+	private static final int WALL_ALL = (WALL_NORTH | WALL_SOUTH | WALL_EAST | WALL_WEST);
+
+	/**
+	 * The dimensions of the maze, the largest maze the user can choose
+	 */
+	private static final int SIZE = 40;
+
+	/**
+	 * The number of tiles resolved each invocation
+	 */
+	static final int TILES = SIZE * SIZE;
+
+	/**
+	 * Are the tiles isometric?
+	 */
+	@Param({"true", "false"})
+	public boolean isometric;
+
+	//the rooms of the maze
+	private Room[] rooms;
+
+	//the bit flags of the walls of each room
+	private byte[] walls;
+
+	//the tile tables indexed by the open sides of a room
+	private TileKey[] tilesIsometric, tilesTopDown;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		//generate a maze so the tiles are the same mix as the game
+		final Random random = new Random(0);
+		final Maze maze = new GrowingTree(SIZE, SIZE);
+
+		while (!maze.isGenerated())
+		{
+			maze.update(random);
+		}
+
+		this.rooms = new Room[TILES];
+		this.walls = new byte[TILES];
+
+		for (int row = 0; row < SIZE; row++)
+		{
+			for (int col = 0; col < SIZE; col++)
+			{
+				final Room room = maze.getRoom(col, row);
+				final int index = (row * SIZE) + col;
+
+				rooms[index] = room;
+
+				int flags = 0;
+
+				if (room.hasWall(Wall.North))
+					flags |= WALL_NORTH;
+				if (room.hasWall(Wall.South))
+					flags |= WALL_SOUTH;
+				if (room.hasWall(Wall.East))
+					flags |= WALL_EAST;
+				if (room.hasWall(Wall.West))
+					flags |= WALL_WEST;
+
+				walls[index] = (byte)flags;
+			}
+		}
+
+		this.tilesIsometric = createTiles(true);
+		this.tilesTopDown = createTiles(false);
+	}
+
+	/**
+	 * Create the table of tiles indexed by the open sides of a room, the same as the labyrinth helper
+	 * @param isometric Are we creating the table for isometric?
+	 * @return Array of 16 tile keys, index 0 (no open sides) will be null
+	 */
+	private static TileKey[] createTiles(final boolean isometric)
+	{
+		final TileKey[] tiles = new TileKey[WALL_ALL + 1];
+
+		for (int open = 1; open <= WALL_ALL; open++)
+		{
+			tiles[open] = chain(
+				(open & WALL_NORTH) != 0, (open & WALL_SOUTH) != 0,
+				(open & WALL_EAST) != 0, (open & WALL_WEST) != 0, isometric);
+		}
+
+		return tiles;
+	}
+
+	/**
+	 * The if-chain used before the tile tables
+	 * @return The tile key for the open sides, null if there are no open sides
+	 */
+	private static TileKey chain(final boolean north, final boolean south, final boolean east, final boolean west, final boolean isometric)
+	{
+		if (east && west && north && south)
+			return (!isometric) ? TileKey.TopDownNSEW : TileKey.IsometricNSEW;
+		else if (east && west && north)
+			return (!isometric) ? TileKey.TopDownNWE : TileKey.IsometricNWE;
+		else if (east && west && south)
+			return (!isometric) ? TileKey.TopDownSWE : TileKey.IsometricSWE;
+		else if (east && north && south)
+			return (!isometric) ? TileKey.TopDownNSE : TileKey.IsometricNSE;
+		else if (west && north && south)
+			return (!isometric) ? TileKey.TopDownNWS : TileKey.IsometricNWS;
+		else if (west && east)
+			return (!isometric) ? TileKey.TopDownWE : TileKey.IsometricWE;
+		else if (west && north)
+			return (!isometric) ? TileKey.TopDownNW : TileKey.IsometricNW;
+		else if (west && south)
+			return (!isometric) ? TileKey.TopDownSW : TileKey.IsometricSW;
+		else if (east && north)
+			return (!isometric) ? TileKey.TopDownNE : TileKey.IsometricNE;
+		else if (east && south)
+			return (!isometric) ? TileKey.TopDownSE : TileKey.IsometricSE;
+		else if (south && north)
+			return (!isometric) ? TileKey.TopDownNS : TileKey.IsometricNS;
+		else if (north)
+			return (!isometric) ? TileKey.TopDownN : TileKey.IsometricN;
+		else if (south)
+			return (!isometric) ? TileKey.TopDownS : TileKey.IsometricS;
+		else if (west)
+			return (!isometric) ? TileKey.TopDownW : TileKey.IsometricW;
+		else if (east)
+			return (!isometric) ? TileKey.TopDownE : TileKey.IsometricE;
+
+		return null;
+	}
+
+	/**
+	 * The if-chain over the walls of each room, each branch checks the wall list of the room
+	 * @param blackhole Consumes each tile so it isn't optimized away
+	 */
+	@Benchmark
+	public void chainRoom(final Blackhole blackhole)
+	{
+		for (int i = 0; i < TILES; i++)
+		{
+			final Room room = rooms[i];
+
+			final TileKey key;
+
+			if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownNSEW : TileKey.IsometricNSEW;
+			else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.North))
+				key = (!isometric) ? TileKey.TopDownNWE : TileKey.IsometricNWE;
+			else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownSWE : TileKey.IsometricSWE;
+			else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownNSE : TileKey.IsometricNSE;
+			else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownNWS : TileKey.IsometricNWS;
+			else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.East))
+				key = (!isometric) ? TileKey.TopDownWE : TileKey.IsometricWE;
+			else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.North))
+				key = (!isometric) ? TileKey.TopDownNW : TileKey.IsometricNW;
+			else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownSW : TileKey.IsometricSW;
+			else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.North))
+				key = (!isometric) ? TileKey.TopDownNE : TileKey.IsometricNE;
+			else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownSE : TileKey.IsometricSE;
+			else if (!room.hasWall(Wall.South) && !room.hasWall(Wall.North))
+				key = (!isometric) ? TileKey.TopDownNS : TileKey.IsometricNS;
+			else if (!room.hasWall(Wall.North))
+				key = (!isometric) ? TileKey.TopDownN : TileKey.IsometricN;
+			else if (!room.hasWall(Wall.South))
+				key = (!isometric) ? TileKey.TopDownS : TileKey.IsometricS;
+			else if (!room.hasWall(Wall.West))
+				key = (!isometric) ? TileKey.TopDownW : TileKey.IsometricW;
+			else if (!room.hasWall(Wall.East))
+				key = (!isometric) ? TileKey.TopDownE : TileKey.IsometricE;
+			else
+				key = null;
+
+			blackhole.consume(key);
+		}
+	}
+
+	/**
+	 * The same if-chain over the wall bits of each room
+	 * @param blackhole Consumes each tile so it isn't optimized away
+	 */
+	@Benchmark
+	public void chainBits(final Blackhole blackhole)
+	{
+		for (int i = 0; i < TILES; i++)
+		{
+			final int flags = walls[i];
+
+			blackhole.consume(chain(
+				(flags & WALL_NORTH) == 0, (flags & WALL_SOUTH) == 0,
+				(flags & WALL_EAST) == 0, (flags & WALL_WEST) == 0, isometric));
+		}
+	}
+
+	/**
+	 * The tile tables, a single array index for each room
+	 * @param blackhole Consumes each tile so it isn't optimized away
+	 */
+	@Benchmark
+	public void table(final Blackhole blackhole)
+	{
+		final TileKey[] tiles = (isometric) ? tilesIsometric : tilesTopDown;
+
+		for (int i = 0; i < TILES; i++)
+		{
+			blackhole.consume(tiles[(~walls[i]) & WALL_ALL]);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Binary tree maze, the same as the framework algorithm.<br>
+ * Each room is joined to one of two neighbors, the directions are chosen once per maze.
+ * @author GOD
+ */
+public final class BinaryTree extends Maze
+{
+	/**
+	 * The pair of directions each room can be joined
+	 */
+	private enum Directions
+	{
+		NW, NE, SW, SE
+	}
+
+	//the chosen directions
+	private Directions direction;
+
+	//the current room
+	private int col = 0, row = 0;
+
+	//the neighbors we can join
+	private final List<Room> tmp = new ArrayList<Room>();
+
+	public BinaryTree(final int cols, final int rows)
+	{
+		super(cols, rows);
+	}
+
+	@Override
+	public void update(final Random random) throws Exception
+	{
+		if (isGenerated())
+			return;
+
+		if (direction == null)
+			direction = Directions.values()[random.nextInt(Directions.values().length)];
+
+		tmp.clear();
+
+		//the vertical neighbor
+		final Room vertical = (direction == Directions.NW || direction == Directions.NE) ? getRoom(col, row - 1) : getRoom(col, row + 1);
+
+		//the horizontal neighbor
+		final Room horizontal = (direction == Directions.NW || direction == Directions.SW) ? getRoom(col - 1, row) : getRoom(col + 1, row);
+
+		if (vertical != null)
+			tmp.add(vertical);
+		if (horizontal != null)
+			tmp.add(horizontal);
+
+		if (!tmp.isEmpty())
+			MazeHelper.joinRooms(getRoom(col, row), tmp.get(random.nextInt(tmp.size())));
+
+		//move to the next room
+		col++;
+
+		if (col >= getCols())
+		{
+			col = 0;
+			row++;
+		}
+
+		increaseProgress();
+	}
+}
\ No newline at end of file
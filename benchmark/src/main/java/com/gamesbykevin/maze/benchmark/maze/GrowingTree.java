@@ -0,0 +1,76 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Growing tree maze, the same as the framework algorithm.<br>
+ * The newest or a random room is grown each update, and removed once it has no unvisited neighbors.<br>
+ * The progress is counted again each time a room is removed, the same as the framework.
+ * @author GOD
+ */
+public final class GrowingTree extends Maze
+{
+	//the rooms still growing
+	private final List<Room> rooms = new ArrayList<Room>();
+
+	//the unvisited neighbors of the current room
+	private final List<Room> options = new ArrayList<Room>();
+
+	public GrowingTree(final int cols, final int rows)
+	{
+		super(cols, rows);
+	}
+
+	/**
+	 * Add the neighbor to the options if it hasn't been visited
+	 * @param room The neighbor, may be null
+	 */
+	private void addOption(final Room room)
+	{
+		if (room != null && !room.hasVisited())
+			options.add(room);
+	}
+
+	@Override
+	public void update(final Random random) throws Exception
+	{
+		if (isGenerated())
+			return;
+
+		//start at a random room
+		if (!MazeHelper.hasVisited(this))
+		{
+			final Room start = getRoom(random.nextInt(getCols()), random.nextInt(getRows()));
+			start.setVisited(true);
+			rooms.add(start);
+		}
+
+		//grow the newest or a random room
+		final int index = random.nextBoolean() ? rooms.size() - 1 : random.nextInt(rooms.size());
+		final Room room = rooms.get(index);
+
+		options.clear();
+		addOption(getRoom(room.getCol(), room.getRow() - 1));
+		addOption(getRoom(room.getCol(), room.getRow() + 1));
+		addOption(getRoom(room.getCol() - 1, room.getRow()));
+		addOption(getRoom(room.getCol() + 1, room.getRow()));
+
+		if (options.isEmpty())
+		{
+			//this room is done growing
+			rooms.remove(index);
+
+			updateProgress();
+		}
+		else
+		{
+			final Room neighbor = options.get(random.nextInt(options.size()));
+			MazeHelper.joinRooms(room, neighbor);
+			room.setVisited(true);
+			neighbor.setVisited(true);
+			rooms.add(neighbor);
+		}
+	}
+}
\ No newline at end of file
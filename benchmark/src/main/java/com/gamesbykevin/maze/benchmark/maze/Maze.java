@@ -0,0 +1,138 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.Random;
+
+/**
+ * A maze without any graphics, the same as the framework maze.<br>
+ * The framework maze tracks its progress with a progress bar that needs android, here it is only a count.
+ * @author GOD
+ */
+public abstract class Maze
+{
+	//the rooms of the maze
+	private final Room[][] rooms;
+
+	//the dimensions of the maze
+	private final int cols, rows;
+
+	//the location of the start and finish
+	private int startCol, startRow, finishCol, finishRow;
+
+	//the number of rooms generated
+	private int progress = 0;
+
+	/**
+	 * Create a new maze with every wall in place
+	 * @param cols The number of columns
+	 * @param rows The number of rows
+	 */
+	protected Maze(final int cols, final int rows)
+	{
+		this.cols = cols;
+		this.rows = rows;
+		this.rooms = new Room[rows][cols];
+
+		for (int row = 0; row < rows; row++)
+		{
+			for (int col = 0; col < cols; col++)
+			{
+				rooms[row][col] = new Room(col, row);
+				rooms[row][col].addAllWalls();
+			}
+		}
+	}
+
+	/**
+	 * Generate the next part of the maze
+	 * @param random Object used to make random decisions
+	 * @throws Exception
+	 */
+	public abstract void update(final Random random) throws Exception;
+
+	public int getCols()
+	{
+		return this.cols;
+	}
+
+	public int getRows()
+	{
+		return this.rows;
+	}
+
+	public Room getRoom(final int col, final int row)
+	{
+		if (col < 0 || col >= cols || row < 0 || row >= rows)
+			return null;
+
+		return rooms[row][col];
+	}
+
+	public void setStartLocation(final int col, final int row)
+	{
+		this.startCol = col;
+		this.startRow = row;
+	}
+
+	public int getStartCol()
+	{
+		return this.startCol;
+	}
+
+	public int getStartRow()
+	{
+		return this.startRow;
+	}
+
+	public void setFinishLocation(final int col, final int row)
+	{
+		this.finishCol = col;
+		this.finishRow = row;
+	}
+
+	public int getFinishCol()
+	{
+		return this.finishCol;
+	}
+
+	public int getFinishRow()
+	{
+		return this.finishRow;
+	}
+
+	/**
+	 * Count one more room generated
+	 */
+	protected void increaseProgress()
+	{
+		this.progress++;
+	}
+
+	/**
+	 * Count the visited rooms again.<br>
+	 * The framework checks every room each time, so this is as expensive as the maze is large
+	 */
+	protected void updateProgress()
+	{
+		int count = 0;
+
+		for (int row = 0; row < getRows(); row++)
+		{
+			for (int col = 0; col < getCols(); col++)
+			{
+				if (getRoom(col, row).hasVisited())
+					count++;
+			}
+		}
+
+		this.progress = count;
+	}
+
+	/**
+	 * Has the maze been generated?
+	 * @return true once every room has been generated
+	 */
+	public boolean isGenerated()
+	{
+		return (progress >= cols * rows);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gamesbykevin.maze.benchmark.maze.Room.Wall;
+
+/**
+ * Maze helper methods, the same as the framework maze helper
+ * @author GOD
+ */
+public final class MazeHelper
+{
+	private MazeHelper()
+	{
+		//utility class
+	}
+
+	/**
+	 * Has any room been visited?
+	 * @param maze The maze to check
+	 * @return true if at least 1 room has been visited, false otherwise
+	 */
+	public static boolean hasVisited(final Maze maze)
+	{
+		for (int row = 0; row < maze.getRows(); row++)
+		{
+			for (int col = 0; col < maze.getCols(); col++)
+			{
+				if (maze.getRoom(col, row).hasVisited())
+					return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Mark every room
+	 * @param maze The maze
+	 * @param visited The visited flag to assign
+	 */
+	public static void setVisitedAll(final Maze maze, final boolean visited)
+	{
+		for (int row = 0; row < maze.getRows(); row++)
+		{
+			for (int col = 0; col < maze.getCols(); col++)
+			{
+				maze.getRoom(col, row).setVisited(visited);
+			}
+		}
+	}
+
+	/**
+	 * Remove the walls between neighboring rooms
+	 * @param room1 The first room
+	 * @param room2 The second room
+	 * @throws Exception If the rooms are not neighbors
+	 */
+	public static void joinRooms(final Room room1, final Room room2) throws Exception
+	{
+		if (room1.getCol() != room2.getCol() && room1.getRow() != room2.getRow())
+			throw new Exception("The rooms have to be in the same column or row");
+
+		if (room1.getCol() < room2.getCol())
+		{
+			room1.removeWall(Wall.East);
+			room2.removeWall(Wall.West);
+		}
+		else if (room1.getCol() > room2.getCol())
+		{
+			room1.removeWall(Wall.West);
+			room2.removeWall(Wall.East);
+		}
+		else if (room1.getRow() < room2.getRow())
+		{
+			room1.removeWall(Wall.South);
+			room2.removeWall(Wall.North);
+		}
+		else
+		{
+			room1.removeWall(Wall.North);
+			room2.removeWall(Wall.South);
+		}
+	}
+
+	/**
+	 * Calculate the distance of every room from the start
+	 * @param maze The generated maze
+	 * @throws Exception
+	 */
+	public static void calculateCost(final Maze maze) throws Exception
+	{
+		setVisitedAll(maze, false);
+
+		//the rooms to check, the same list the framework uses
+		final List<Room> options = new ArrayList<Room>();
+
+		final Room start = maze.getRoom(maze.getStartCol(), maze.getStartRow());
+		start.setCost(0);
+		start.setVisited(true);
+		options.add(start);
+
+		while (!options.isEmpty())
+		{
+			final Room room = options.get(0);
+
+			performRoomCheck(maze, room, Wall.West, options);
+			performRoomCheck(maze, room, Wall.East, options);
+			performRoomCheck(maze, room, Wall.North, options);
+			performRoomCheck(maze, room, Wall.South, options);
+
+			options.remove(0);
+		}
+	}
+
+	/**
+	 * Add the neighbor through the wall, if it is open and the neighbor hasn't been visited
+	 * @param maze The maze
+	 * @param room The current room
+	 * @param wall The wall to check
+	 * @param options The rooms to check
+	 */
+	private static void performRoomCheck(final Maze maze, final Room room, final Wall wall, final List<Room> options)
+	{
+		if (room.hasWall(wall))
+			return;
+
+		final Room neighbor;
+
+		switch (wall)
+		{
+			case West:
+				neighbor = maze.getRoom(room.getCol() - 1, room.getRow());
+				break;
+
+			case East:
+				neighbor = maze.getRoom(room.getCol() + 1, room.getRow());
+				break;
+
+			case North:
+				neighbor = maze.getRoom(room.getCol(), room.getRow() - 1);
+				break;
+
+			default:
+				neighbor = maze.getRoom(room.getCol(), room.getRow() + 1);
+				break;
+		}
+
+		if (neighbor == null || neighbor.hasVisited())
+			return;
+
+		neighbor.setCost(room.getCost() + 1);
+		neighbor.setVisited(true);
+		options.add(neighbor);
+	}
+
+	/**
+	 * Place the finish at the room furthest from the start
+	 * @param maze The generated maze
+	 * @throws Exception
+	 */
+	public static void locateFinish(final Maze maze) throws Exception
+	{
+		calculateCost(maze);
+
+		int cost = -1;
+
+		for (int row = 0; row < maze.getRows(); row++)
+		{
+			for (int col = 0; col < maze.getCols(); col++)
+			{
+				//the furthest room is the finish
+				if (maze.getRoom(col, row).getCost() > cost)
+				{
+					cost = maze.getRoom(col, row).getCost();
+					maze.setFinishLocation(col, row);
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
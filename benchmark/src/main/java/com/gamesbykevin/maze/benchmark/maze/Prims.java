@@ -0,0 +1,79 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prim's maze, the same as the framework algorithm.<br>
+ * A random room of the frontier is joined to the maze each update.<br>
+ * The frontier is a list, so checking if a room is already on it is as expensive as the frontier is large.
+ * @author GOD
+ */
+public final class Prims extends Maze
+{
+	//the unvisited rooms next to the maze
+	private final List<Room> frontier = new ArrayList<Room>();
+
+	public Prims(final int cols, final int rows)
+	{
+		super(cols, rows);
+	}
+
+	/**
+	 * Add the neighbor to the frontier, if it hasn't been visited and isn't on the frontier
+	 * @param room The neighbor, may be null
+	 */
+	private void addFrontier(final Room room)
+	{
+		if (room != null && !room.hasVisited() && !frontier.contains(room))
+			frontier.add(room);
+	}
+
+	/**
+	 * Add the neighbor to the list if it has been visited
+	 * @param room The neighbor, may be null
+	 * @param visited The visited neighbors
+	 */
+	private static void addVisited(final Room room, final List<Room> visited)
+	{
+		if (room != null && room.hasVisited())
+			visited.add(room);
+	}
+
+	@Override
+	public void update(final Random random) throws Exception
+	{
+		if (isGenerated())
+			return;
+
+		//start at a random room
+		if (!MazeHelper.hasVisited(this))
+			frontier.add(getRoom(random.nextInt(getCols()), random.nextInt(getRows())));
+
+		final int index = random.nextInt(frontier.size());
+		final Room room = frontier.get(index);
+
+		//the framework creates a new list each update
+		final List<Room> visited = new ArrayList<Room>();
+		addVisited(getRoom(room.getCol(), room.getRow() - 1), visited);
+		addVisited(getRoom(room.getCol(), room.getRow() + 1), visited);
+		addVisited(getRoom(room.getCol() - 1, room.getRow()), visited);
+		addVisited(getRoom(room.getCol() + 1, room.getRow()), visited);
+
+		//join the room to the maze
+		if (!visited.isEmpty())
+			MazeHelper.joinRooms(room, visited.get(random.nextInt(visited.size())));
+
+		room.setVisited(true);
+
+		addFrontier(getRoom(room.getCol(), room.getRow() - 1));
+		addFrontier(getRoom(room.getCol(), room.getRow() + 1));
+		addFrontier(getRoom(room.getCol() - 1, room.getRow()));
+		addFrontier(getRoom(room.getCol() + 1, room.getRow()));
+
+		increaseProgress();
+
+		frontier.remove(index);
+	}
+}
\ No newline at end of file
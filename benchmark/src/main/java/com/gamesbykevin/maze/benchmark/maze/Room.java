@@ -0,0 +1,105 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A room of the maze, the same as the framework room.<br>
+ * Each room has its own id and list of walls, so generating allocates the same objects as the game.
+ * @author GOD
+ */
+public final class Room
+{
+	/**
+	 * The walls a room can have
+	 */
+	public enum Wall
+	{
+		North, South, West, East
+	}
+
+	//the location of the room
+	private final int col, row;
+
+	//the walls of this room
+	private final List<Wall> walls;
+
+	//the unique id of this room
+	private UUID id;
+
+	//has this room been visited
+	private boolean visited = false;
+
+	//the distance from the start
+	private int cost = 0;
+
+	public Room(final int col, final int row)
+	{
+		this.col = col;
+		this.row = row;
+		this.id = UUID.randomUUID();
+		this.walls = new ArrayList<Wall>();
+	}
+
+	public int getCol()
+	{
+		return this.col;
+	}
+
+	public int getRow()
+	{
+		return this.row;
+	}
+
+	public UUID getId()
+	{
+		return this.id;
+	}
+
+	public void addAllWalls()
+	{
+		for (Wall wall : Wall.values())
+		{
+			addWall(wall);
+		}
+	}
+
+	public boolean addWall(final Wall wall)
+	{
+		if (hasWall(wall))
+			return false;
+
+		return walls.add(wall);
+	}
+
+	public boolean removeWall(final Wall wall)
+	{
+		return walls.remove(wall);
+	}
+
+	public boolean hasWall(final Wall wall)
+	{
+		return walls.contains(wall);
+	}
+
+	public void setVisited(final boolean visited)
+	{
+		this.visited = visited;
+	}
+
+	public boolean hasVisited()
+	{
+		return this.visited;
+	}
+
+	public void setCost(final int cost)
+	{
+		this.cost = cost;
+	}
+
+	public int getCost()
+	{
+		return this.cost;
+	}
+}
\ No newline at end of file
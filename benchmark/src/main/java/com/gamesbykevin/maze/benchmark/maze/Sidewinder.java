@@ -0,0 +1,72 @@
+package com.gamesbykevin.maze.benchmark.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sidewinder maze, the same as the framework algorithm.<br>
+ * Each row is carved east in runs, and each run is joined north once.<br>
+ * The progress is counted again at the end of each row, the same as the framework.
+ * @author GOD
+ */
+public final class Sidewinder extends Maze
+{
+	//the current room
+	private int col = 0, row = 0;
+
+	//the current run of rooms
+	private final List<Room> run = new ArrayList<Room>();
+
+	public Sidewinder(final int cols, final int rows)
+	{
+		super(cols, rows);
+	}
+
+	@Override
+	public void update(final Random random) throws Exception
+	{
+		if (isGenerated())
+			return;
+
+		//the framework checks if any room has been visited each update
+		if (!MazeHelper.hasVisited(this))
+			getRoom(0, 0).setVisited(true);
+
+		final Room room = getRoom(col, row);
+		room.setVisited(true);
+		run.add(room);
+
+		//the first row can only be carved east, each run closes at random
+		if (col < getCols() - 1 && (row == 0 || random.nextBoolean()))
+		{
+			final Room east = getRoom(col + 1, row);
+			MazeHelper.joinRooms(room, east);
+			col++;
+		}
+		else
+		{
+			//join a random room of the run north
+			if (row > 0)
+			{
+				final Room tmp = run.get(random.nextInt(run.size()));
+				MazeHelper.joinRooms(tmp, getRoom(tmp.getCol(), row - 1));
+			}
+
+			run.clear();
+
+			//the row is done
+			if (col >= getCols() - 1)
+			{
+				col = 0;
+				row++;
+
+				updateProgress();
+			}
+			else
+			{
+				col++;
+			}
+		}
+	}
+}
\ No newline at end of file
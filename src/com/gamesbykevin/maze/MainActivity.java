@@ -125,6 +125,9 @@ public class MainActivity extends Activity
     public void onPause()
     {
         super.onPause();
+        
+        //the game won't update/render while we are not visible
+        setPause(true);
     }
     
     /**
@@ -134,6 +137,26 @@ public class MainActivity extends Activity
     public void onResume()
     {
     	super.onResume();
+    	
+    	//get the game panel
+    	final GamePanel panel = ((GamePanel)findViewById(R.id.surfaceView));
+    	
+    	//only continue if we still have the surface, otherwise the game will resume once the surface is created
+    	if (panel != null && panel.getHolder().getSurface().isValid())
+    		setPause(false);
+    }
+    
+    /**
+     * Pause/resume the game thread (if it exists)
+     * @param pause true to stop the game update/render, false to continue
+     */
+    private void setPause(final boolean pause)
+    {
+        //get the game panel
+        final GamePanel panel = ((GamePanel)findViewById(R.id.surfaceView));
+        
+        if (panel != null && panel.getThread() != null)
+        	panel.getThread().setPause(pause);
     }
     
     /**
@@ -44,8 +44,8 @@ public class Splash extends Activity
         
         try
         {
-            //load the game assets
-            Assets.load(this);
+            //load the menu assets, the game assets are loaded when a game starts
+            Assets.loadMenu(this);
         }
         catch (Exception e)
         {
@@ -1,6 +1,7 @@
 package com.gamesbykevin.maze.assets;
 
 import android.app.Activity;
+import android.graphics.Bitmap;
 
 import com.gamesbykevin.androidframework.resources.*;
 import com.gamesbykevin.maze.panel.GamePanel;
@@ -141,12 +142,13 @@ public class Assets
     }
     
     /**
-     * Load all assets.<br>
+     * Load the assets needed by the menu.<br>
+     * The screens are all created at once, so this includes the fonts used by the game and game over screens.<br>
      * If an asset already exists, it won't be loaded again
      * @param activity Object containing AssetManager needed to load assets
      * @throws Exception 
      */
-    public static final void load(final Activity activity) throws Exception
+    public static final void loadMenu(final Activity activity) throws Exception
     {
         //load all images for the menu
         Images.load(activity, ImageMenuKey.values(), DIRECTORY_MENU_IMAGE, true);
@@ -157,12 +159,6 @@ public class Assets
         //load all audio for the menu
         Audio.load(activity, AudioMenuKey.values(), DIRECTORY_MENU_AUDIO, true);
         
-        //load images for the game
-        Images.load(activity, ImageGameKey.values(), DIRECTORY_GAME_IMAGE, true);
-        
-        //load all audio for the game
-        Audio.load(activity, AudioGameKey.values(), DIRECTORY_GAME_AUDIO, true);
-        
         //load all fonts for the game
         Font.load(activity, FontGameKey.values(), DIRECTORY_GAME_FONT, true);
         
@@ -170,6 +166,38 @@ public class Assets
         Files.load(activity, TextKey.values(), DIRECTORY_TEXT, true);
     }
     
+    /**
+     * Load the assets needed by the game.<br>
+     * This is called when a game is created, and again after the game images have been recycled.<br>
+     * If an asset already exists, it won't be loaded again
+     * @param activity Object containing AssetManager needed to load assets
+     * @throws Exception 
+     */
+    public static final void loadGame(final Activity activity) throws Exception
+    {
+        //load images for the game, any recycled image is decoded again
+        Images.load(activity, ImageGameKey.values(), DIRECTORY_GAME_IMAGE, true);
+        
+        //load all audio for the game
+        Audio.load(activity, AudioGameKey.values(), DIRECTORY_GAME_AUDIO, true);
+    }
+    
+    /**
+     * Recycle the images used by the game.<br>
+     * Anything created from these images (buttons, animations) must be disposed first.<br>
+     * The game audio is kept, once a sound is disposed it won't be loaded again
+     */
+    public static void recycleGame()
+    {
+        for (ImageGameKey key : ImageGameKey.values())
+        {
+            final Bitmap image = Images.getImage(key);
+            
+            if (image != null && !image.isRecycled())
+                image.recycle();
+        }
+    }
+    
     /**
      * Recycle all assets
      */
@@ -8,6 +8,7 @@ import com.gamesbykevin.androidframework.resources.Images;
 import com.gamesbykevin.maze.assets.Assets;
 import com.gamesbykevin.maze.panel.GamePanel;
 import com.gamesbykevin.maze.screen.ScreenManager;
+import com.gamesbykevin.maze.thread.GameClock;
 
 import android.graphics.Canvas;
 
@@ -23,9 +24,20 @@ public class Countdown extends Entity implements Disposable
      */
     private static final long ANIMATION_DURATION = 1100L;
     
+    /**
+     * The number of animation frames
+     */
+    private static final int FRAMES = 4;
+    
     //default dimensions
     private static final int WIDTH = 133;
     private static final int HEIGHT = 201;
+    
+    //the time the count down started
+    private long start;
+    
+    //the frame the count down is on, once past the last frame the count down has completed
+    private int frame = 0;
 	
 	public Countdown()
 	{
@@ -49,9 +61,9 @@ public class Countdown extends Entity implements Disposable
 			0,
 			WIDTH,
 			HEIGHT,
-			4,
+			FRAMES,
 			1,
-			4
+			FRAMES
 		);
 		
 		//set animation delay
@@ -71,14 +83,15 @@ public class Countdown extends Entity implements Disposable
 	}
 	
 	/**
-	 * Update the count down animation
+	 * Update the count down.<br>
+	 * Only the frame is calculated, the animation is assigned by the render thread
 	 */
 	public void update()
 	{
-		//update animation
-		super.getSpritesheet().get().update();
+		//the frame is determined by the time passed
+		this.frame = (int)((GameClock.currentTimeMillis() - start) / ANIMATION_DURATION);
 		
-		//if the animation is finished, play the music
+		//if the count down is finished, play the music
 		if (hasCompleted())
             Assets.playMusic();
 	}
@@ -88,8 +101,9 @@ public class Countdown extends Entity implements Disposable
 	 */
 	public final void reset()
 	{
-		//reset animation
-		super.getSpritesheet().get().reset();
+		//start counting from the first frame
+		this.start = GameClock.currentTimeMillis();
+		this.frame = 0;
 		
         //play sound effect
         Audio.play(Assets.AudioGameKey.Countdown);
@@ -97,11 +111,30 @@ public class Countdown extends Entity implements Disposable
 	
 	/**
 	 * Has the count down completed?
-	 * @return true if the animation has finished, false otherwise
+	 * @return true if every frame has been displayed, false otherwise
 	 */
 	public boolean hasCompleted()
 	{
-		return super.getSpritesheet().get().hasFinished();
+		return (frame >= FRAMES);
+	}
+	
+	/**
+	 * Get the frame to display
+	 * @return The index of the animation frame
+	 */
+	public int getFrameIndex()
+	{
+		return Math.min(frame, FRAMES - 1);
+	}
+	
+	/**
+	 * Assign the frame to the animation.<br>
+	 * This is called by the render thread with the frame from the game snapshot, never the update thread
+	 * @param frameIndex The index of the animation frame
+	 */
+	public void updateAnimation(final int frameIndex)
+	{
+		super.getSpritesheet().get().setFrameIndex(frameIndex);
 	}
 	
 	@Override
@@ -46,11 +46,28 @@ public final class Game implements IGame
     //our level object to choose from
     private Levels levels;
     
+    //the snapshot being written by the update thread, and the last snapshot published
+    private GameSnapshot back, front;
+    
+    //the copy of the published snapshot the render thread is drawing
+    private final GameSnapshot snapshot;
+    
+    //held while swapping or copying the published snapshot
+    private final Object snapshotLock = new Object();
+    
+    //do the sprites created from the game images exist
+    private boolean sprites = false;
+    
     public Game(final ScreenManager screen) throws Exception
     {
         //our main screen object reference
         this.screen = screen;
         
+        //create the snapshots first, the render thread could draw before the first update
+        this.back = new GameSnapshot();
+        this.front = new GameSnapshot();
+        this.snapshot = new GameSnapshot();
+        
         //create new paint object
         this.paint = new Paint();
         this.paint.setTextSize(16f);
@@ -75,6 +92,76 @@ public final class Game implements IGame
 		
         //create new select level object
         this.levels = new Levels(this);
+        
+        //every sprite was created with the objects above
+        this.sprites = true;
+    }
+    
+    /**
+     * Create the sprites from the game images again.<br>
+     * The game images must be loaded first, if the sprites already exist nothing happens
+     * @throws Exception
+     */
+    public void createSprites() throws Exception
+    {
+    	if (hasSprites())
+    		return;
+    	
+    	//the controller and count down only contain sprites, so they are created again
+    	this.controller = new Controller(this);
+    	this.countdown = new Countdown();
+    	
+    	//everything else keeps its state and only creates the sprites
+    	getLabyrinth().createAnimations();
+    	getHuman().createAnimations();
+    	getCpu().createAnimations();
+    	getLevels().createButtons();
+    	
+    	//the render thread won't draw the game until the sprites exist
+    	synchronized (getScreen().getPanel().getRenderLock())
+    	{
+    		this.sprites = true;
+    	}
+    }
+    
+    /**
+     * Dispose the sprites created from the game images, so the images can be recycled.<br>
+     * The rest of the game is kept (score card, selected level, maze cache, the level generated ahead of time).<br>
+     * The caller must hold the render lock, the game is not rendered again until createSprites() is called
+     */
+    public void releaseSprites()
+    {
+    	if (!hasSprites())
+    		return;
+    	
+    	//flag first so the game isn't rendered
+    	this.sprites = false;
+    	
+        if (controller != null)
+        {
+            controller.dispose();
+            controller = null;
+        }
+        
+		if (countdown != null)
+		{
+			countdown.dispose();
+			countdown = null;
+		}
+		
+    	getLabyrinth().releaseAnimations();
+    	getHuman().releaseAnimations();
+    	getCpu().releaseAnimations();
+    	getLevels().releaseButtons();
+    }
+    
+    /**
+     * Do the sprites exist?
+     * @return true if the game can be rendered, false if the sprites were released
+     */
+    public boolean hasSprites()
+    {
+    	return this.sprites;
     }
     
 	/**
@@ -233,9 +320,43 @@ public final class Game implements IGame
         }
         else
         {
+        	//store where the players are before they move this tick
+        	getHuman().storePreviousLocation();
+        	getCpu().storePreviousLocation();
+        	
         	//update the game elements
         	GameHelper.update(this);
         }
+        
+        //publish the result of this tick for the render thread
+        publish();
+    }
+    
+    /**
+     * Write the back snapshot and swap it with the front.<br>
+     * This is called by the update thread at the end of each tick
+     */
+    private void publish()
+    {
+    	//the render thread never reads the back snapshot, so no lock is needed to write it
+    	back.write(this);
+    	
+    	synchronized (snapshotLock)
+    	{
+    		final GameSnapshot tmp = front;
+    		front = back;
+    		back = tmp;
+    	}
+    }
+    
+    /**
+     * Get the snapshot being rendered.<br>
+     * This is only valid on the render thread while the game is being rendered
+     * @return The copy of the most recent snapshot published by the update thread
+     */
+    public GameSnapshot getSnapshot()
+    {
+    	return this.snapshot;
     }
     
     /**
@@ -246,7 +367,45 @@ public final class Game implements IGame
     @Override
     public void render(final Canvas canvas) throws Exception
     {
-    	GameHelper.render(this, canvas);
+    	//nothing to draw while the sprites are released
+    	if (!hasSprites())
+    		return;
+    	
+    	//copy the most recent tick published by the update thread
+    	synchronized (snapshotLock)
+    	{
+    		snapshot.copy(front);
+    	}
+    	
+    	//how far we are between the last tick and the next
+    	final double interpolation = snapshot.getInterpolation();
+    	
+    	//the location of each player between their previous and current location
+    	final double humanCol = snapshot.getHumanCol(interpolation);
+    	final double humanRow = snapshot.getHumanRow(interpolation);
+    	final double cpuCol = snapshot.getCpuCol(interpolation);
+    	final double cpuRow = snapshot.getCpuRow(interpolation);
+    	
+    	//the maze is rendered around the player with focus
+    	if (getHuman().hasFocus())
+    	{
+    		getLabyrinth().setView(humanCol, humanRow);
+    	}
+    	else
+    	{
+    		getLabyrinth().setView(cpuCol, cpuRow);
+    	}
+    	
+    	//the coordinates of the players are relative to the view
+    	getHuman().updateCoordinates(humanCol, humanRow);
+    	getCpu().updateCoordinates(cpuCol, cpuRow);
+    	
+    	//the sprites are only changed here, the update thread only chooses the animation
+    	getHuman().updateAnimation(snapshot.getHumanAnimation());
+    	getCpu().updateAnimation(snapshot.getCpuAnimation());
+    	getCountdown().updateAnimation(snapshot.getCountdownFrame());
+    	
+    	GameHelper.render(this, canvas, interpolation);
     }
     
     @Override
@@ -3,6 +3,7 @@ package com.gamesbykevin.maze.game;
 import com.gamesbykevin.androidframework.resources.Audio;
 import com.gamesbykevin.androidframework.text.TimeFormat;
 import com.gamesbykevin.maze.assets.Assets;
+import com.gamesbykevin.maze.player.Cpu;
 import com.gamesbykevin.maze.screen.OptionsScreen;
 import com.gamesbykevin.maze.screen.ScreenManager.State;
 
@@ -119,6 +120,9 @@ public final class GameHelper
 	        	//hide the computer
 	        	game.getCpu().setVisible(true);
 	        	
+	        	//assign how the computer will solve the maze, chosen in the options
+	        	game.getCpu().setStrategy(Cpu.getStrategy(game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_OPPONENT)));
+	        	
 	        	//reset the maze
 	        	game.getLabyrinth().reset();
 	        	break;
@@ -151,7 +155,7 @@ public final class GameHelper
 		else
 		{
 	    	//make sure maze has been generated before updating other objects
-	    	if (game.getLabyrinth().getMaze().isGenerated())
+	    	if (game.getLabyrinth().isGenerated())
 	    	{
 	    		//make sure the count down is done
 	    		if (game.getCountdown().hasCompleted())
@@ -258,11 +262,14 @@ public final class GameHelper
 	}
 	
 	/**
-	 * Render the game elements
+	 * Render the game elements.<br>
+	 * The players are ordered and the overlays chosen from the snapshot, never from the players the update thread is changing
+	 * @param game Our game reference object
 	 * @param canvas Object to write pixel data
+	 * @param interpolation The fraction of the way to the next tick the players are rendered at (0.0 - 1.0)
 	 * @throws Exception
 	 */
-    protected static void render(final Game game, final Canvas canvas) throws Exception
+    protected static void render(final Game game, final Canvas canvas, final double interpolation) throws Exception
     {
     	if (game.getLevels() != null)
     	{
@@ -289,16 +296,25 @@ public final class GameHelper
 			return;
 		
     	//make sure the maze exists first, and has been created
-    	if (game.getLabyrinth().getMaze() != null && game.getLabyrinth().getMaze().isGenerated())
+    	if (game.getLabyrinth().isGenerated())
     	{
+    		//the snapshot being rendered
+    		final GameSnapshot snapshot = game.getSnapshot();
+    		
+    		//the location each player is rendered
+    		final double humanCol = snapshot.getHumanCol(interpolation);
+    		final double humanRow = snapshot.getHumanRow(interpolation);
+    		final double cpuCol = snapshot.getCpuCol(interpolation);
+    		final double cpuRow = snapshot.getCpuRow(interpolation);
+    		
 			//render the players in order since we have an isometric view
-            if (game.getHuman().getRow() > game.getCpu().getRow())
+            if (humanRow > cpuRow)
             {
             	//render the human last
             	game.getCpu().render(canvas);
             	game.getHuman().render(canvas);
             }
-            else if (game.getHuman().getRow() < game.getCpu().getRow())
+            else if (humanRow < cpuRow)
             {
             	//render the opponent last
             	game.getHuman().render(canvas);
@@ -306,7 +322,7 @@ public final class GameHelper
             }
             else
             {
-            	if (game.getHuman().getCol() > game.getCpu().getCol())
+            	if (humanCol > cpuCol)
             	{
                 	//render the human last
             		game.getCpu().render(canvas);
@@ -321,13 +337,13 @@ public final class GameHelper
             }
             
             //make sure the players are not at the goal when rendering the count down or d-pad
-			if (!game.getHuman().hasGoal() && !game.getCpu().hasGoal())
+			if (!snapshot.hasHumanGoal() && !snapshot.hasCpuGoal())
 			{
 				//as long as it isn't game over, render the following
 				if (game.getScreen().getState() != State.GameOver)
 				{
 			    	//if we have a delay we darken the background otherwise we render the d-pad
-					if (!game.getCountdown().hasCompleted())
+					if (!snapshot.hasCountdownCompleted())
 					{
 						game.getCountdown().render(canvas);
 					}
@@ -343,7 +359,7 @@ public final class GameHelper
     	 * As long  as the players are not at the goal.
     	 * Render the typical menu buttons, so the player always has an option
     	 */
-		if (!game.getHuman().hasGoal() && !game.getCpu().hasGoal())
+		if (!game.getSnapshot().hasHumanGoal() && !game.getSnapshot().hasCpuGoal())
 			game.getController().render(canvas);
     }
 }
\ No newline at end of file
@@ -0,0 +1,279 @@
+package com.gamesbykevin.maze.game;
+
+import com.gamesbykevin.maze.player.Cpu;
+import com.gamesbykevin.maze.player.Human;
+import com.gamesbykevin.maze.player.HudText;
+import com.gamesbykevin.maze.player.Player;
+import com.gamesbykevin.maze.player.Player.AnimationKey;
+import com.gamesbykevin.maze.thread.GameClock;
+import com.gamesbykevin.maze.thread.MainThread;
+
+/**
+ * The state the render thread needs to draw the game, copied at the end of each game tick.<br>
+ * The update thread writes the back snapshot and then swaps it with the front, a published snapshot is never written.<br>
+ * The render thread copies the front snapshot once per frame so it never reads a player while it is moving.
+ * @author GOD
+ */
+public final class GameSnapshot
+{
+	//the time the snapshot was written (nanoseconds)
+	private long time;
+
+	//the location of the human at the start and end of the tick
+	private double humanPreviousCol, humanPreviousRow, humanCol, humanRow;
+
+	//the location of the opponent at the start and end of the tick
+	private double cpuPreviousCol, cpuPreviousRow, cpuCol, cpuRow;
+
+	//the animation of each player
+	private AnimationKey humanAnimation, cpuAnimation;
+
+	//the velocity of the player with focus, used to prefetch the maze ahead of them
+	private double focusDX, focusDY;
+
+	//has each player reached the goal
+	private boolean humanGoal, cpuGoal;
+
+	//the frame of the count down, and has the count down completed
+	private int countdownFrame;
+	private boolean countdownCompleted;
+
+	//the heads up display text, copied into our own buffers so nothing is allocated
+	private final HudText timeDescription = new HudText();
+	private final HudText bestDescription = new HudText();
+	private final HudText distanceDescription = new HudText();
+
+	/**
+	 * Store the current state of the game, this is called by the update thread
+	 * @param game Our game reference object
+	 */
+	protected void write(final Game game)
+	{
+		final Human human = game.getHuman();
+		final Cpu cpu = game.getCpu();
+
+		this.time = GameClock.nanoTime();
+
+		this.humanPreviousCol = human.getPreviousCol();
+		this.humanPreviousRow = human.getPreviousRow();
+		this.humanCol = human.getCol();
+		this.humanRow = human.getRow();
+
+		this.cpuPreviousCol = cpu.getPreviousCol();
+		this.cpuPreviousRow = cpu.getPreviousRow();
+		this.cpuCol = cpu.getCol();
+		this.cpuRow = cpu.getRow();
+
+		final Player player = game.getPlayer();
+		this.focusDX = player.getDX();
+		this.focusDY = player.getDY();
+
+		this.humanGoal = human.hasGoal();
+		this.cpuGoal = cpu.hasGoal();
+
+		this.humanAnimation = human.getAnimationKey();
+		this.cpuAnimation = cpu.getAnimationKey();
+		this.countdownFrame = game.getCountdown().getFrameIndex();
+		this.countdownCompleted = game.getCountdown().hasCompleted();
+
+		this.timeDescription.copy(human.getTimeDescription());
+		this.bestDescription.copy(human.getBestDescription());
+		this.distanceDescription.copy(human.getDistanceDescription());
+	}
+
+	/**
+	 * Copy another snapshot, this is called by the render thread
+	 * @param snapshot The snapshot to copy
+	 */
+	protected void copy(final GameSnapshot snapshot)
+	{
+		this.time = snapshot.time;
+
+		this.humanPreviousCol = snapshot.humanPreviousCol;
+		this.humanPreviousRow = snapshot.humanPreviousRow;
+		this.humanCol = snapshot.humanCol;
+		this.humanRow = snapshot.humanRow;
+
+		this.cpuPreviousCol = snapshot.cpuPreviousCol;
+		this.cpuPreviousRow = snapshot.cpuPreviousRow;
+		this.cpuCol = snapshot.cpuCol;
+		this.cpuRow = snapshot.cpuRow;
+
+		this.focusDX = snapshot.focusDX;
+		this.focusDY = snapshot.focusDY;
+
+		this.humanGoal = snapshot.humanGoal;
+		this.cpuGoal = snapshot.cpuGoal;
+
+		this.humanAnimation = snapshot.humanAnimation;
+		this.cpuAnimation = snapshot.cpuAnimation;
+		this.countdownFrame = snapshot.countdownFrame;
+		this.countdownCompleted = snapshot.countdownCompleted;
+
+		this.timeDescription.copy(snapshot.timeDescription);
+		this.bestDescription.copy(snapshot.bestDescription);
+		this.distanceDescription.copy(snapshot.distanceDescription);
+	}
+
+	/**
+	 * Get how far we are between this tick and the next
+	 * @return The fraction of a tick passed since the snapshot was written (0.0 - 1.0)
+	 */
+	public double getInterpolation()
+	{
+		final double interpolation = (double)(GameClock.nanoTime() - time) / MainThread.TICK_DURATION;
+
+		return Math.max(0.0, Math.min(1.0, interpolation));
+	}
+
+	/**
+	 * Get the location between the start and end of the tick
+	 * @param previous The location at the start of the tick
+	 * @param current The location at the end of the tick
+	 * @param interpolation The fraction of the way to the next tick (0.0 - 1.0)
+	 * @return The location to render
+	 */
+	private static double interpolate(final double previous, final double current, final double interpolation)
+	{
+		return previous + ((current - previous) * interpolation);
+	}
+
+	/**
+	 * Get the column to render the human
+	 * @param interpolation The fraction of the way to the next tick (0.0 - 1.0)
+	 * @return The column between the start and end of the tick
+	 */
+	public double getHumanCol(final double interpolation)
+	{
+		return interpolate(humanPreviousCol, humanCol, interpolation);
+	}
+
+	/**
+	 * Get the row to render the human
+	 * @param interpolation The fraction of the way to the next tick (0.0 - 1.0)
+	 * @return The row between the start and end of the tick
+	 */
+	public double getHumanRow(final double interpolation)
+	{
+		return interpolate(humanPreviousRow, humanRow, interpolation);
+	}
+
+	/**
+	 * Get the column to render the opponent
+	 * @param interpolation The fraction of the way to the next tick (0.0 - 1.0)
+	 * @return The column between the start and end of the tick
+	 */
+	public double getCpuCol(final double interpolation)
+	{
+		return interpolate(cpuPreviousCol, cpuCol, interpolation);
+	}
+
+	/**
+	 * Get the row to render the opponent
+	 * @param interpolation The fraction of the way to the next tick (0.0 - 1.0)
+	 * @return The row between the start and end of the tick
+	 */
+	public double getCpuRow(final double interpolation)
+	{
+		return interpolate(cpuPreviousRow, cpuRow, interpolation);
+	}
+
+	/**
+	 * Get the horizontal velocity of the player with focus
+	 * @return The change in column each tick
+	 */
+	public double getFocusDX()
+	{
+		return this.focusDX;
+	}
+
+	/**
+	 * Get the vertical velocity of the player with focus
+	 * @return The change in row each tick
+	 */
+	public double getFocusDY()
+	{
+		return this.focusDY;
+	}
+
+	/**
+	 * Has the human reached the goal?
+	 * @return true if the human was at the goal at the end of the tick
+	 */
+	public boolean hasHumanGoal()
+	{
+		return this.humanGoal;
+	}
+
+	/**
+	 * Has the opponent reached the goal?
+	 * @return true if the opponent was at the goal at the end of the tick
+	 */
+	public boolean hasCpuGoal()
+	{
+		return this.cpuGoal;
+	}
+
+	/**
+	 * Get the animation of the human
+	 * @return The animation key at the end of the tick
+	 */
+	public AnimationKey getHumanAnimation()
+	{
+		return this.humanAnimation;
+	}
+
+	/**
+	 * Get the animation of the opponent
+	 * @return The animation key at the end of the tick
+	 */
+	public AnimationKey getCpuAnimation()
+	{
+		return this.cpuAnimation;
+	}
+
+	/**
+	 * Get the frame of the count down
+	 * @return The index of the count down animation frame
+	 */
+	public int getCountdownFrame()
+	{
+		return this.countdownFrame;
+	}
+
+	/**
+	 * Has the count down completed?
+	 * @return true if the count down was done at the end of the tick
+	 */
+	public boolean hasCountdownCompleted()
+	{
+		return this.countdownCompleted;
+	}
+
+	/**
+	 * Get the time description
+	 * @return The text of the game timer
+	 */
+	public HudText getTimeDescription()
+	{
+		return this.timeDescription;
+	}
+
+	/**
+	 * Get the best time description
+	 * @return The text of the best time for the level
+	 */
+	public HudText getBestDescription()
+	{
+		return this.bestDescription;
+	}
+
+	/**
+	 * Get the distance description
+	 * @return The text of the rooms remaining to reach the goal
+	 */
+	public HudText getDistanceDescription()
+	{
+		return this.distanceDescription;
+	}
+}
\ No newline at end of file
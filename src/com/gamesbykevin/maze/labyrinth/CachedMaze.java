@@ -0,0 +1,68 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import java.util.Random;
+
+import com.gamesbykevin.androidframework.maze.Maze;
+import com.gamesbykevin.androidframework.maze.Room;
+import com.gamesbykevin.androidframework.maze.Room.Wall;
+
+/**
+ * A maze restored from the walls of a previously generated maze.<br>
+ * There is nothing to generate, the walls are assigned in a single update.
+ * @author GOD
+ */
+public final class CachedMaze extends Maze
+{
+	//the walls of every room, stored row by row
+	private final byte[] walls;
+
+	/**
+	 * Create a maze from the saved walls
+	 * @param cols Columns
+	 * @param rows Rows
+	 * @param walls The bit flags of the walls in each room stored row by row
+	 * @throws Exception
+	 */
+	public CachedMaze(final int cols, final int rows, final byte[] walls) throws Exception
+	{
+		super(cols, rows);
+
+		//store the walls
+		this.walls = walls;
+	}
+
+	@Override
+	public void update(final Random random)
+	{
+		//if already generated, don't continue
+		if (isGenerated())
+			return;
+
+		for (int row = 0; row < getRows(); row++)
+		{
+			for (int col = 0; col < getCols(); col++)
+			{
+				//get the current room
+				final Room room = getRoom(col, row);
+
+				//the saved walls for this room
+				final int value = walls[(row * getCols()) + col];
+
+				//start with no walls and add the saved ones
+				room.removeAllWalls();
+
+				if ((value & LabyrinthGrid.WALL_NORTH) != 0)
+					room.addWall(Wall.North);
+				if ((value & LabyrinthGrid.WALL_SOUTH) != 0)
+					room.addWall(Wall.South);
+				if ((value & LabyrinthGrid.WALL_EAST) != 0)
+					room.addWall(Wall.East);
+				if ((value & LabyrinthGrid.WALL_WEST) != 0)
+					room.addWall(Wall.West);
+			}
+		}
+
+		//the maze is now generated
+		getProgress().markComplete();
+	}
+}
\ No newline at end of file
@@ -4,10 +4,10 @@ import com.gamesbykevin.androidframework.resources.Font;
 import com.gamesbykevin.maze.assets.Assets;
 import com.gamesbykevin.maze.game.Game;
 import com.gamesbykevin.maze.game.IGame;
+import com.gamesbykevin.maze.level.Levels;
 import com.gamesbykevin.maze.panel.GamePanel;
 import com.gamesbykevin.maze.player.*;
 import com.gamesbykevin.maze.screen.OptionsScreen;
-import com.gamesbykevin.maze.thread.MainThread;
 
 import android.graphics.Canvas;
 
@@ -16,22 +16,47 @@ import java.util.Random;
 import com.gamesbykevin.androidframework.base.Entity;
 import com.gamesbykevin.androidframework.maze.Maze;
 import com.gamesbykevin.androidframework.maze.MazeHelper;
+import com.gamesbykevin.androidframework.maze.Room;
 import com.gamesbykevin.androidframework.maze.algorithm.*;
 
 public class Labyrinth extends Entity implements IGame
 {
-	//our maze object reference
+	//our maze object reference, this is only assigned once the maze has been generated
 	private Maze maze;
 	
+	//the worker generating the next maze
+	private LabyrinthGenerator generator;
+	
+	//the worker generating the following level ahead of time
+	private LabyrinthGenerator prefetch;
+	
+	//packed walls of the generated maze used by the game
+	private LabyrinthGrid grid;
+	
+	//junctions and corridors of the generated maze
+	private LabyrinthGraph graph;
+	
+	//the number of rooms from each room to the goal
+	private int[] distances;
+	
+	//the pre-rendered top down maze
+	private LabyrinthBitmap bitmap;
+	
+	//the pre-rendered isometric maze chunks
+	private LabyrinthChunkCache chunks;
+	
+	//the previously generated mazes
+	private LabyrinthCache cache;
+	
 	/**
-	 * Random object used to generate the levels
+	 * Do we pre-render the top down maze into a single bitmap?
 	 */
-	private static final Random RANDOMIZE = new Random();
+	private static final boolean PRE_RENDER_TOP_DOWN = true;
 	
 	/**
-	 * How many times do we progress the maze creation per game update
+	 * Do we pre-render the isometric maze in chunks?
 	 */
-	private static final int MAZE_CREATE_UPDATES = (MainThread.FPS);
+	private static final boolean PRE_RENDER_ISOMETRIC = true;
 	
 	/**
 	 * This will contain all keys for the tiles
@@ -54,13 +79,20 @@ public class Labyrinth extends Entity implements IGame
     //the start coordinate of the first column, row (0,0)
     private final int startX, startY;
     
+    //the location the maze is rendered around, assigned by the render thread
+    private double viewCol, viewRow;
+    
     //dimensions to calculate render coordinates
     public static final int WIDTH_ISOMETRIC = 100;
     public static final int HEIGHT_ISOMETRIC = 65;
     public static final int WIDTH_TOP_DOWN = 64;
     public static final int HEIGHT_TOP_DOWN = 64;
-    private static final int OFFSET_WIDTH_ISOMETRIC = 8;
-    private static final int OFFSET_HEIGHT_ISOMETRIC = OFFSET_WIDTH_ISOMETRIC * 2;
+    protected static final int OFFSET_WIDTH_ISOMETRIC = 8;
+    protected static final int OFFSET_HEIGHT_ISOMETRIC = OFFSET_WIDTH_ISOMETRIC * 2;
+    
+    //the distance between each room when rendering isometric
+    protected static final int STEP_WIDTH_ISOMETRIC = (WIDTH_ISOMETRIC - OFFSET_WIDTH_ISOMETRIC) / 2;
+    protected static final int STEP_HEIGHT_ISOMETRIC = (HEIGHT_ISOMETRIC - OFFSET_HEIGHT_ISOMETRIC) / 2;
     
     //our game reference object
     private final Game game;
@@ -77,6 +109,16 @@ public class Labyrinth extends Entity implements IGame
     private static final int MAZE_XXLARGE_COLS = 40;
     private static final int MAZE_XXLARGE_ROWS = 40;
     
+    /**
+     * The number of algorithms we can choose from to generate a maze
+     */
+    public static final int ALGORITHMS = 4;
+    
+    /**
+     * The number of maze sizes the user can choose from
+     */
+    public static final int SIZES = 5;
+    
 	public Labyrinth(final Game game) throws Exception
 	{
 		super();
@@ -93,100 +135,231 @@ public class Labyrinth extends Entity implements IGame
         
         //set default
         setIsometric(false);
+        
+        //load the previously generated mazes
+        this.cache = new LabyrinthCache(game.getScreen().getPanel().getActivity());
 	}
 	
 	@Override
 	public void reset() throws Exception
+	{
+		//the current game settings
+		final int level = game.getLevels().getLevelIndex();
+		final int size = game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE);
+		final int mode = game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_MODE);
+		
+		//stop any previous generation and remove the current maze
+		removeMaze();
+		
+		if (prefetch != null && prefetch.hasSettings(level, size, mode))
+		{
+			//the maze was already started ahead of time
+			this.generator = prefetch;
+			this.prefetch = null;
+		}
+		else
+		{
+			//the settings changed, so we can't use the prefetched maze
+			cancelPrefetch();
+			
+			//start generating the maze in the background
+			this.generator = createGenerator(level, size, mode);
+			this.generator.start();
+		}
+		
+		//if the maze is already generated hand it off now
+		update();
+	}
+	
+	/**
+	 * Start generating the maze for the following level in the background.<br>
+	 * When the game moves to the next level with the same settings the maze will be ready.
+	 * @throws Exception
+	 */
+	public void prefetchNextLevel() throws Exception
+	{
+		//the settings of the following level
+		final int level = (game.getLevels().getLevelIndex() + 1) % Levels.TOTAL_LEVELS;
+		final int size = game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE);
+		final int mode = game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_MODE);
+		
+		//if we are already generating this maze there is nothing to do
+		if (prefetch != null && prefetch.hasSettings(level, size, mode))
+			return;
+		
+		//remove any previous prefetch
+		cancelPrefetch();
+		
+		//start generating the following level
+		this.prefetch = createGenerator(level, size, mode);
+		this.prefetch.start();
+	}
+	
+	/**
+	 * Stop and remove the maze being generated ahead of time (if any)
+	 */
+	private void cancelPrefetch()
+	{
+		if (prefetch != null)
+		{
+			prefetch.cancel();
+			prefetch = null;
+		}
+	}
+	
+	/**
+	 * Create the worker that will generate the maze for the specified settings
+	 * @param level The level index
+	 * @param size The size index
+	 * @param mode The game mode index
+	 * @return The worker ready to be started
+	 * @throws Exception
+	 */
+	private LabyrinthGenerator createGenerator(final int level, final int size, final int mode) throws Exception
 	{
 		//the dimensions of the maze
-		final int cols;
-		final int rows;
+		final int cols = getMazeCols(size);
+		final int rows = getMazeRows(size);
 		
-        //set the size of the maze
-        switch (game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE))
-        {
-            case 0:
-        	default:
-        		cols = Labyrinth.MAZE_SMALL_COLS;
-        		rows = Labyrinth.MAZE_SMALL_ROWS;
-	            break;
-	            
-            case 1:
-            	cols = Labyrinth.MAZE_MEDIUM_COLS;
-            	rows = Labyrinth.MAZE_MEDIUM_ROWS;
-	            break;
-	            
-            case 2:
-            	cols = Labyrinth.MAZE_LARGE_COLS;
-            	rows = Labyrinth.MAZE_LARGE_ROWS;
-	            break;
-	            
-            case 3:
-            	cols = Labyrinth.MAZE_XLARGE_COLS;
-	            rows = Labyrinth.MAZE_XLARGE_ROWS;
-	            break;
-	            
-            case 4:
-            	cols = Labyrinth.MAZE_XXLARGE_COLS;
-	            rows = Labyrinth.MAZE_XXLARGE_ROWS;
-	            break;
-        }
+		//random object used to generate this maze, each generator has its own
+		final Random random;
+		
+		//can the maze be saved, only if it will be the same every time
+		final boolean deterministic;
 		
 		//determine how the maze will be created by the game  mode
-		switch (game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_MODE))
+		switch (mode)
 		{
 			//casual and timed mode
 			case 0:
 			case 1:
+			default:
 				//set the seed according to the level
-				RANDOMIZE.setSeed(game.getLevels().getLevelIndex());
+				random = new Random(level);
+				deterministic = true;
 				break;
 				
 			//versus computer and free mode
 			case 2:
 			case 3:
-				//we set the seed to whatever the current time is
-				RANDOMIZE.setSeed(System.nanoTime());
+				//the seed comes from the game random object, so a harness can repeat the same mazes
+				random = new Random(GamePanel.RANDOM.nextLong());
+				deterministic = false;
 				break;
 		}
 		
+		//the maze we will generate
+		final Maze tmp;
+		
 		//pick a random maze algorithm
-		switch (RANDOMIZE.nextInt(4))
+		final int algorithm = random.nextInt(ALGORITHMS);
+		
+		//the key of the maze if it can be saved
+		final String key = (deterministic) ? LabyrinthCache.getKey(level, size, algorithm) : null;
+		
+		//if the maze was previously generated we don't need to generate it again
+		final byte[] walls = (key != null) ? cache.get(key, cols, rows) : null;
+		
+		if (walls != null)
+		{
+			tmp = new CachedMaze(cols, rows, walls);
+		}
+		else
+		{
+			tmp = createMaze(algorithm, cols, rows);
+		}
+		
+		//set the start location inside the maze itself
+		tmp.setStartLocation(0, 0);
+		
+		//setup the progress bar
+		tmp.getProgress().setScreen(0, 0, GamePanel.WIDTH, GamePanel.HEIGHT);
+		tmp.getProgress().getPaint().setTypeface(Font.getFont(Assets.FontMenuKey.Default));
+		tmp.getProgress().getPaint().setTextSize(32f);
+		tmp.getProgress().setDescription("Generating Maze...  ");
+		
+		//save the maze once generated, unless it was already saved
+		return new LabyrinthGenerator(tmp, random, level, size, mode, (walls == null) ? key : null);
+	}
+	
+	/**
+	 * Get the number of columns in the maze
+	 * @param size The size index
+	 * @return The number of columns for the size
+	 */
+	public static int getMazeCols(final int size)
+	{
+        switch (size)
+        {
+            case 0:
+        	default:
+        		return MAZE_SMALL_COLS;
+	            
+            case 1:
+            	return MAZE_MEDIUM_COLS;
+	            
+            case 2:
+            	return MAZE_LARGE_COLS;
+	            
+            case 3:
+            	return MAZE_XLARGE_COLS;
+	            
+            case 4:
+            	return MAZE_XXLARGE_COLS;
+        }
+	}
+	
+	/**
+	 * Get the number of rows in the maze
+	 * @param size The size index
+	 * @return The number of rows for the size
+	 */
+	public static int getMazeRows(final int size)
+	{
+        switch (size)
+        {
+            case 0:
+        	default:
+        		return MAZE_SMALL_ROWS;
+	            
+            case 1:
+            	return MAZE_MEDIUM_ROWS;
+	            
+            case 2:
+            	return MAZE_LARGE_ROWS;
+	            
+            case 3:
+            	return MAZE_XLARGE_ROWS;
+	            
+            case 4:
+            	return MAZE_XXLARGE_ROWS;
+        }
+	}
+	
+	/**
+	 * Create the maze using the specified algorithm
+	 * @param algorithm The index of the algorithm
+	 * @param cols Columns
+	 * @param rows Rows
+	 * @return The maze to be generated
+	 * @throws Exception
+	 */
+	public static Maze createMaze(final int algorithm, final int cols, final int rows) throws Exception
+	{
+		switch (algorithm)
 		{
 			case 0:
 			default:
-				this.maze = new BinaryTree(cols, rows);
-				break;
+				return new BinaryTree(cols, rows);
 				
 			case 1:
-				this.maze = new GrowingTree(cols, rows);
-				break;
+				return new GrowingTree(cols, rows);
 				
 			case 2:
-				this.maze = new Sidewinder(cols, rows);
-				break;
+				return new Sidewinder(cols, rows);
 				
 			case 3:
-				this.maze = new Prims(cols, rows);
-				break;
-		}
-		
-		//set the start location inside the maze itself
-		getMaze().setStartLocation(0, 0);
-		
-		//setup the progress bar
-		getMaze().getProgress().setScreen(0, 0, GamePanel.WIDTH, GamePanel.HEIGHT);
-		getMaze().getProgress().getPaint().setTypeface(Font.getFont(Assets.FontMenuKey.Default));
-		getMaze().getProgress().getPaint().setTextSize(32f);
-		getMaze().getProgress().setDescription("Generating Maze...  ");
-		
-		//mark all rooms in the maze as not visited, so we can track where the player goes
-		for (int col = 0; col < getMaze().getCols(); col++)
-		{
-			for (int row = 0; row < getMaze().getRows(); row++)
-			{
-				getMaze().getRoom(col, row).setVisited(false);
-			}
+				return new Prims(cols, rows);
 		}
 	}
 	
@@ -220,58 +393,112 @@ public class Labyrinth extends Entity implements IGame
 	}
 	
 	/**
-	 * Here we will generate the maze, and if complete update etc....
+	 * Has the maze been generated and handed off to the game?
+	 * @return true = yes, false = no
+	 */
+	public boolean isGenerated()
+	{
+		return (getMaze() != null && getMaze().isGenerated());
+	}
+	
+	/**
+	 * Here we check if the maze generation has completed, and if so hand it off to the game etc....
 	 * @throws Exception
 	 */
 	@Override
 	public void update() throws Exception
 	{
 		//if the maze has been generated, no need to continue
-		if (getMaze().isGenerated())
+		if (isGenerated())
 			return;
-
-		//update the maze generation multiple times per game update
-		for (int i = 0; i < MAZE_CREATE_UPDATES; i++)
-		{
-			if (!getMaze().isGenerated())
-			{
-				getMaze().update(RANDOMIZE);
-			}
-			else
-			{
-				break;
-			}
-		}
 		
-		//if the maze has been created, calculate cost and the finish will be the highest cost
-		if (getMaze().isGenerated())
+		//if the worker has generated the maze, it is now ours
+		if (generator != null && generator.isComplete())
 		{
-			//identify the finish
-			MazeHelper.locateFinish(getMaze());
+			//the generated maze, and the key to save it (null if it won't be saved)
+			final Maze tmp = generator.getMaze();
+			final String cacheKey = generator.getCacheKey();
 			
-			//reset the players, now that maze has been generated
-			game.getHuman().reset();
-    		game.getCpu().reset();
+			//identify the finish, the finish will be the highest cost
+			MazeHelper.locateFinish(tmp);
 			
-			//check the start room of the maze and make the player face an open direction
-			PlayerHelper.assignStartAnimation(
-				game.getHuman(), 
-				getMaze().getRoom(getMaze().getStartCol(), getMaze().getStartRow())
-			);
+			//create a snapshot of the walls for the game to use
+			final LabyrinthGrid tmpGrid = new LabyrinthGrid(tmp);
 			
-			PlayerHelper.assignStartAnimation(
-				game.getCpu(), 
-				getMaze().getRoom(getMaze().getStartCol(), getMaze().getStartRow())
-			);
+			//the start and finish rooms
+			final int start = tmpGrid.getIndex(tmp.getStartCol(), tmp.getStartRow());
+			final int finish = tmpGrid.getIndex(tmp.getFinishCol(), tmp.getFinishRow());
+			
+			//contract the maze into junctions and corridors
+			final LabyrinthGraph tmpGraph = new LabyrinthGraph(tmpGrid, start, finish);
+			
+			//measure the distance from every room to the goal once, so nothing else needs to search
+			final int[] tmpDistances = tmpGrid.getDistances(finish);
+			
+			//save the maze so it won't need to be generated again, the cache is written on its own thread
+			if (cacheKey != null)
+				cache.put(cacheKey, tmpGrid);
+			
+			//the render thread can't draw while we replace the maze it is drawing, so we only swap the references
+			synchronized (getRenderLock())
+			{
+				//publish the maze and remove the worker
+				this.maze = tmp;
+				this.grid = tmpGrid;
+				this.graph = tmpGraph;
+				this.distances = tmpDistances;
+				this.generator = null;
+				
+				//reset the players, now that maze has been generated
+				game.getHuman().reset();
+				game.getCpu().reset();
+			
+				//check the start room of the maze and make the player face an open direction
+				PlayerHelper.assignStartAnimation(game.getHuman(), tmpGrid.getWalls(start));
+				PlayerHelper.assignStartAnimation(game.getCpu(), tmpGrid.getWalls(start));
+			}
 			
 			//mark all room in maze as unvisited, this is for the AI
 			markUnvisited();
 			
-    		//reset the count down
-            game.getCountdown().reset();
+			//pre-render the top down maze (if enabled), each tile is drawn by the render thread until it is published
+			final LabyrinthBitmap tmpBitmap = (PRE_RENDER_TOP_DOWN && !hasIsometric()) ? LabyrinthBitmap.create(this) : null;
+			
+			//pre-render the isometric maze as needed (if enabled)
+			final LabyrinthChunkCache tmpChunks = (PRE_RENDER_ISOMETRIC && hasIsometric()) ? new LabyrinthChunkCache(this) : null;
+			
+			synchronized (getRenderLock())
+			{
+				this.bitmap = tmpBitmap;
+				this.chunks = tmpChunks;
+			}
+			
+			//reset the count down
+			game.getCountdown().reset();
 		}
 	}
 	
+	/**
+	 * Create the tile animations from the game images.<br>
+	 * The animations are created with the labyrinth, this is only needed after releaseAnimations()
+	 */
+	public void createAnimations()
+	{
+		LabyrinthHelper.setupAnimations(this);
+	}
+	
+	/**
+	 * Remove the current maze and dispose the tile animations, so the game images can be recycled.<br>
+	 * The maze cache and the level being generated ahead of time are kept
+	 */
+	public void releaseAnimations()
+	{
+		//the pre-rendered maze is drawn from the tiles, a new maze is generated when the game is reset
+		removeMaze();
+		
+		LabyrinthHelper.releaseAnimations(this);
+	}
+	
 	/**
 	 * Mark all rooms unvisited in the current maze.<br>
 	 * We do this because the AI tracks which rooms have been visited to solve.<br>
@@ -282,36 +509,181 @@ public class Labyrinth extends Entity implements IGame
 		if (getMaze() == null)
 			return;
 		
-		//check every column
-		for (int col = 0; col < getMaze().getCols(); col++)
+		//the render thread reads the visited rooms while drawing, so they only change while we hold the lock
+		synchronized (getRenderLock())
 		{
-			//check every row
-			for (int row = 0; row < getMaze().getRows(); row++)
+			//check every column
+			for (int col = 0; col < getMaze().getCols(); col++)
 			{
-				getMaze().getRoom(col, row).setVisited(false);
+				//check every row
+				for (int row = 0; row < getMaze().getRows(); row++)
+				{
+					getMaze().getRoom(col, row).setVisited(false);
+				}
 			}
+			
+			//redraw the pre-rendered maze without the visited overlay
+			if (bitmap != null)
+				bitmap.drawAll();
+			
+			//the chunks will need to be drawn again
+			if (chunks != null)
+				chunks.invalidateAll();
+		}
+	}
+	
+	/**
+	 * Mark the room as visited.<br>
+	 * If the maze is pre-rendered the visited overlay will be drawn for this room.
+	 * @param col Column
+	 * @param row Row
+	 */
+	public void markVisited(final int col, final int row)
+	{
+		//get the room
+		final Room room = getMaze().getRoom(col, row);
+		
+		//if already visited, nothing changes
+		if (room.hasVisited())
+			return;
+		
+		//the render thread reads the visited rooms while drawing, so they only change while we hold the lock
+		synchronized (getRenderLock())
+		{
+			//flag visited
+			room.setVisited(true);
+			
+			//update the pre-rendered maze
+			if (bitmap != null)
+				bitmap.drawRoom(col, row);
+			
+			//the chunk containing this room will need to be drawn again
+			if (chunks != null)
+				chunks.invalidate(col, row);
 		}
 	}
 	
 	/**
 	 * Get the maze object
-	 * @return The maze object
+	 * @return The maze object, null will be returned while the maze is being generated
 	 */
 	public Maze getMaze()
 	{
 		return this.maze;
 	}
 	
+	/**
+	 * Get the grid
+	 * @return The packed walls of the generated maze, null will be returned while the maze is being generated
+	 */
+	public LabyrinthGrid getGrid()
+	{
+		return this.grid;
+	}
+	
+	/**
+	 * Get the graph
+	 * @return The junctions and corridors of the generated maze, null will be returned while the maze is being generated
+	 */
+	public LabyrinthGraph getGraph()
+	{
+		return this.graph;
+	}
+	
+	/**
+	 * Get the distance to the goal
+	 * @param col Column
+	 * @param row Row
+	 * @return The number of rooms to move from the room to reach the goal, LabyrinthGrid.NONE if it can't be reached
+	 */
+	public int getDistance(final int col, final int row)
+	{
+		return getDistance(getGrid().getIndex(col, row));
+	}
+	
+	/**
+	 * Get the distance to the goal
+	 * @param index The index of the room
+	 * @return The number of rooms to move from the room to reach the goal, LabyrinthGrid.NONE if it can't be reached
+	 */
+	public int getDistance(final int index)
+	{
+		return this.distances[index];
+	}
+	
 	@Override
 	public void dispose()
 	{
-		if (maze != null)
+		removeMaze();
+		cancelPrefetch();
+		
+		if (cache != null)
+		{
+			cache.dispose();
+			cache = null;
+		}
+	}
+	
+	/**
+	 * Stop any generation and remove the current maze and everything rendered from it
+	 */
+	private void removeMaze()
+	{
+		//the render thread can't draw while we remove the maze it is drawing
+		synchronized (getRenderLock())
 		{
-			maze.dispose();
-			maze = null;
+			//remove the wall snapshot, graph and distances
+			grid = null;
+			graph = null;
+			distances = null;
+			
+			if (bitmap != null)
+			{
+				bitmap.dispose();
+				bitmap = null;
+			}
+			
+			if (chunks != null)
+			{
+				chunks.dispose();
+				chunks = null;
+			}
+			
+			if (generator != null)
+			{
+				generator.cancel();
+				generator = null;
+			}
+			
+			if (maze != null)
+			{
+				maze.dispose();
+				maze = null;
+			}
 		}
 	}
 	
+	/**
+	 * Get the lock the render thread holds while drawing
+	 * @return The render lock of the game panel
+	 */
+	private Object getRenderLock()
+	{
+		return game.getScreen().getPanel().getRenderLock();
+	}
+	
+	/**
+	 * Assign the location the maze is rendered around.<br>
+	 * This is called by the render thread with the interpolated location of the player with focus
+	 * @param col Column
+	 * @param row Row
+	 */
+	public void setView(final double col, final double row)
+	{
+		this.viewCol = col;
+		this.viewRow = row;
+	}
+	
 	/**
 	 * Get the x-coordinate
 	 * @param col Column
@@ -324,15 +696,15 @@ public class Labyrinth extends Entity implements IGame
 		{
 			final double offsetX = (
 				(
-					(col - game.getPlayer().getCol()) - (row - game.getPlayer().getRow())
-				) * ((WIDTH_ISOMETRIC - OFFSET_WIDTH_ISOMETRIC) / 2)
+					(col - viewCol) - (row - viewRow)
+				) * STEP_WIDTH_ISOMETRIC
 			);
 			
 			return (startX + offsetX);
 		}
 		else
 		{
-			return (startX + ((col - (game.getPlayer().getCol() + .5)) * WIDTH_TOP_DOWN));
+			return (startX + ((col - (viewCol + .5)) * WIDTH_TOP_DOWN));
 		}
 	}
 	
@@ -348,35 +720,224 @@ public class Labyrinth extends Entity implements IGame
 		{
 			final double offsetY = (
 				(
-					(col - game.getPlayer().getCol()) + (row - game.getPlayer().getRow())
-				) * ((HEIGHT_ISOMETRIC - OFFSET_HEIGHT_ISOMETRIC) / 2)
+					(col - viewCol) + (row - viewRow)
+				) * STEP_HEIGHT_ISOMETRIC
 			);
 			
 			return (startY + offsetY);
 		}
 		else
 		{
-			return (startY + ((row - (game.getPlayer().getRow() + .5)) * HEIGHT_TOP_DOWN));
+			return (startY + ((row - (viewRow + .5)) * HEIGHT_TOP_DOWN));
+		}
+	}
+	
+	/**
+	 * Get the first row that can be on the screen
+	 * @param isometric Are we rendering isometric?
+	 * @return The first row to render
+	 */
+	private int getVisibleRowStart(final boolean isometric)
+	{
+		final double row;
+		
+		if (isometric)
+		{
+			//the row where the top of the screen meets the right side of the screen
+			row = viewRow + ((getScreenSumStart() - getScreenDifferenceEnd()) / 2);
+		}
+		else
+		{
+			row = viewRow + .5 - ((double)(startY + HEIGHT_TOP_DOWN) / HEIGHT_TOP_DOWN);
+		}
+		
+		return (int)Math.max(0, Math.floor(row));
+	}
+	
+	/**
+	 * Get the last row that can be on the screen
+	 * @param isometric Are we rendering isometric?
+	 * @return The last row to render
+	 */
+	private int getVisibleRowEnd(final boolean isometric)
+	{
+		final double row;
+		
+		if (isometric)
+		{
+			//the row where the bottom of the screen meets the left side of the screen
+			row = viewRow + ((getScreenSumEnd() - getScreenDifferenceStart()) / 2);
+		}
+		else
+		{
+			row = viewRow + .5 + ((double)(GamePanel.HEIGHT - startY) / HEIGHT_TOP_DOWN);
+		}
+		
+		return (int)Math.min(getMaze().getRows() - 1, Math.ceil(row));
+	}
+	
+	/**
+	 * Get the first column that can be on the screen
+	 * @param row The row we are rendering
+	 * @param isometric Are we rendering isometric?
+	 * @return The first column to render
+	 */
+	private int getVisibleColStart(final int row, final boolean isometric)
+	{
+		final double col;
+		
+		if (isometric)
+		{
+			//distance from the row of the view
+			final double v = row - viewRow;
+			
+			//the column must be right of the left side and below the top of the screen
+			col = viewCol + Math.max(v + getScreenDifferenceStart(), getScreenSumStart() - v);
+		}
+		else
+		{
+			col = viewCol + .5 - ((double)(startX + WIDTH_TOP_DOWN) / WIDTH_TOP_DOWN);
 		}
+		
+		return (int)Math.max(0, Math.floor(col));
+	}
+	
+	/**
+	 * Get the last column that can be on the screen
+	 * @param row The row we are rendering
+	 * @param isometric Are we rendering isometric?
+	 * @return The last column to render
+	 */
+	private int getVisibleColEnd(final int row, final boolean isometric)
+	{
+		final double col;
+		
+		if (isometric)
+		{
+			//distance from the row of the view
+			final double v = row - viewRow;
+			
+			//the column must be left of the right side and above the bottom of the screen
+			col = viewCol + Math.min(v + getScreenDifferenceEnd(), getScreenSumEnd() - v);
+		}
+		else
+		{
+			col = viewCol + .5 + ((double)(GamePanel.WIDTH - startX) / WIDTH_TOP_DOWN);
+		}
+		
+		return (int)Math.min(getMaze().getCols() - 1, Math.ceil(col));
+	}
+	
+	/**
+	 * Get the first isometric diagonal (col + row) that can be on the screen
+	 * @return The first diagonal to render
+	 */
+	private int getVisibleDiagonalStart()
+	{
+		return (int)Math.max(0, Math.floor(viewCol + viewRow + getScreenSumStart()));
+	}
+	
+	/**
+	 * Get the last isometric diagonal (col + row) that can be on the screen
+	 * @return The last diagonal to render
+	 */
+	private int getVisibleDiagonalEnd()
+	{
+		return (int)Math.min(getMaze().getCols() + getMaze().getRows() - 2, Math.ceil(viewCol + viewRow + getScreenSumEnd()));
+	}
+	
+	/**
+	 * The isometric x-coordinate depends on (col - row), this is the smallest difference that is on the screen
+	 * @return The smallest (col - row) relative to the player
+	 */
+	private double getScreenDifferenceStart()
+	{
+		return (double)(-startX - WIDTH_ISOMETRIC) / STEP_WIDTH_ISOMETRIC;
+	}
+	
+	/**
+	 * The isometric x-coordinate depends on (col - row), this is the largest difference that is on the screen
+	 * @return The largest (col - row) relative to the player
+	 */
+	private double getScreenDifferenceEnd()
+	{
+		return (double)(GamePanel.WIDTH - startX) / STEP_WIDTH_ISOMETRIC;
+	}
+	
+	/**
+	 * The isometric y-coordinate depends on (col + row), this is the smallest sum that is on the screen
+	 * @return The smallest (col + row) relative to the player
+	 */
+	private double getScreenSumStart()
+	{
+		return (double)(-startY - HEIGHT_ISOMETRIC) / STEP_HEIGHT_ISOMETRIC;
+	}
+	
+	/**
+	 * The isometric y-coordinate depends on (col + row), this is the largest sum that is on the screen
+	 * @return The largest (col + row) relative to the player
+	 */
+	private double getScreenSumEnd()
+	{
+		return (double)(GamePanel.HEIGHT - startY) / STEP_HEIGHT_ISOMETRIC;
 	}
 	
 	@Override
 	public void render(final Canvas canvas) throws Exception
 	{
-		//we can't render if the object is not null
+		//if the maze is being generated render the progress of the worker
 		if (getMaze() == null)
-			return;
-		
-		if (!getMaze().isGenerated())
 		{
-			//if not generated render progress
-			getMaze().render(canvas);
+			//store reference in case the worker is handed off while rendering
+			final LabyrinthGenerator tmp = generator;
+			
+			if (tmp != null)
+				tmp.getMaze().render(canvas);
 		}
 		else
 		{
-			for (int row = 0; row < getMaze().getRows(); row++)
+			//are we rendering isometric
+			final boolean isometric = hasIsometric();
+			
+			//if the top down maze is pre-rendered we only need to copy the visible area
+			if (!isometric && bitmap != null)
+			{
+				bitmap.render(canvas, (int)getCoordinateX(0, 0), (int)getCoordinateY(0, 0));
+				return;
+			}
+			
+			//if the isometric maze is pre-rendered we only need to draw the visible chunks
+			if (isometric && chunks != null)
+			{
+				//only check the chunks containing the rows and diagonals that can be on the screen
+				chunks.render(
+					canvas, 
+					getVisibleRowStart(true), 
+					getVisibleRowEnd(true), 
+					getVisibleDiagonalStart(), 
+					getVisibleDiagonalEnd()
+				);
+				
+				//get the next chunk ready in the direction the player is heading, from the snapshot being rendered
+				chunks.prefetch(
+					viewCol, 
+					viewRow, 
+					game.getSnapshot().getFocusDX(), 
+					game.getSnapshot().getFocusDY()
+				);
+				return;
+			}
+			
+			//only check the rows that can be on the screen
+			final int rowStart = getVisibleRowStart(isometric);
+			final int rowEnd = getVisibleRowEnd(isometric);
+			
+			for (int row = rowStart; row <= rowEnd; row++)
 			{
-				for (int col = 0; col < getMaze().getCols(); col++)
+				//only check the columns that can be on the screen for this row
+				final int colEnd = getVisibleColEnd(row, isometric);
+				
+				for (int col = getVisibleColStart(row, isometric); col <= colEnd; col++)
 				{
 					//set the location
 					super.setX(getCoordinateX(col, row));
@@ -388,8 +949,8 @@ public class Labyrinth extends Entity implements IGame
 					if (getY() + getHeight() < 0 || getY() > GamePanel.HEIGHT)
 						continue;
 					
-					//assign the appropriate animation based on the room
-					LabyrinthHelper.assignAnimation(this, getMaze().getRoom(col, row), hasIsometric());
+					//assign the appropriate animation from the tile table
+					LabyrinthHelper.assignAnimation(this, getGrid().getWalls(col, row), isometric);
 					
 					//render the current animation at the current location
 					super.render(canvas);
@@ -398,7 +959,7 @@ public class Labyrinth extends Entity implements IGame
 					if (getMaze().getFinishCol() == col && getMaze().getFinishRow() == row)
 					{
 						//assign the goal key
-						super.getSpritesheet().setKey(hasIsometric() ? TileKey.IsometricGoal : TileKey.TopDownGoal);
+						super.getSpritesheet().setKey(isometric ? TileKey.IsometricGoal : TileKey.TopDownGoal);
 						
 						//draw it
 						super.render(canvas);
@@ -406,7 +967,7 @@ public class Labyrinth extends Entity implements IGame
 					else if (getMaze().getRoom(col, row).hasVisited())
 					{
 						//if we visited this tile, render overlay
-						super.getSpritesheet().setKey(hasIsometric() ? TileKey.IsometricVisited : TileKey.TopDownVisited);
+						super.getSpritesheet().setKey(isometric ? TileKey.IsometricVisited : TileKey.TopDownVisited);
 						
 						//draw it
 						super.render(canvas);
@@ -0,0 +1,199 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import com.gamesbykevin.androidframework.maze.Maze;
+import com.gamesbykevin.androidframework.resources.Disposable;
+import com.gamesbykevin.maze.labyrinth.Labyrinth.TileKey;
+import com.gamesbykevin.maze.panel.GamePanel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+/**
+ * The top down maze pre-rendered into a single bitmap.<br>
+ * Once generated the maze does not change, so we draw every tile once and then only copy the visible area each frame.<br>
+ * The visited overlay is drawn into the bitmap as each room is visited.
+ * @author GOD
+ */
+public final class LabyrinthBitmap implements Disposable
+{
+	/**
+	 * The top down tiles are opaque so we don't need an alpha channel
+	 */
+	private static final Bitmap.Config CONFIG = Bitmap.Config.RGB_565;
+
+	/**
+	 * The number of bytes per pixel for our config
+	 */
+	private static final int BYTES_PER_PIXEL = 2;
+
+	/**
+	 * The fraction of the maximum heap we are willing to use for the bitmap
+	 */
+	private static final int HEAP_RATIO = 4;
+
+	//the labyrinth we are rendering
+	private final Labyrinth labyrinth;
+
+	//the pre-rendered maze
+	private Bitmap bitmap;
+
+	//canvas used to draw into our bitmap
+	private Canvas canvas;
+
+	//the area of the bitmap to copy, and where on the screen
+	private final Rect source, destination;
+
+	/**
+	 * Create the pre-rendered maze
+	 * @param labyrinth The labyrinth containing the generated maze
+	 */
+	private LabyrinthBitmap(final Labyrinth labyrinth)
+	{
+		//store our reference
+		this.labyrinth = labyrinth;
+
+		//create the bitmap large enough for every room
+		this.bitmap = Bitmap.createBitmap(
+			labyrinth.getMaze().getCols() * Labyrinth.WIDTH_TOP_DOWN,
+			labyrinth.getMaze().getRows() * Labyrinth.HEIGHT_TOP_DOWN,
+			CONFIG
+		);
+
+		//create canvas to draw into the bitmap
+		this.canvas = new Canvas(bitmap);
+
+		//create our rectangles
+		this.source = new Rect();
+		this.destination = new Rect();
+
+		//draw every room
+		drawAll();
+	}
+
+	/**
+	 * Create the pre-rendered maze for the labyrinth.<br>
+	 * If the bitmap would use too much memory it won't be created.
+	 * @param labyrinth The labyrinth containing the generated maze
+	 * @return The pre-rendered maze, null if not enough memory
+	 */
+	protected static LabyrinthBitmap create(final Labyrinth labyrinth)
+	{
+		//the number of bytes needed
+		final long bytes = (long)labyrinth.getMaze().getCols() * Labyrinth.WIDTH_TOP_DOWN *
+			labyrinth.getMaze().getRows() * Labyrinth.HEIGHT_TOP_DOWN * BYTES_PER_PIXEL;
+
+		//if we are using too much memory, the labyrinth will draw each tile instead
+		if (bytes > Runtime.getRuntime().maxMemory() / HEAP_RATIO)
+			return null;
+
+		try
+		{
+			return new LabyrinthBitmap(labyrinth);
+		}
+		catch (OutOfMemoryError e)
+		{
+			e.printStackTrace();
+
+			//we can't pre-render
+			return null;
+		}
+	}
+
+	/**
+	 * Draw every room in the maze into the bitmap
+	 */
+	protected void drawAll()
+	{
+		for (int row = 0; row < labyrinth.getMaze().getRows(); row++)
+		{
+			for (int col = 0; col < labyrinth.getMaze().getCols(); col++)
+			{
+				drawRoom(col, row);
+			}
+		}
+	}
+
+	/**
+	 * Draw the room into the bitmap, including the goal/visited overlay
+	 * @param col Column
+	 * @param row Row
+	 */
+	protected void drawRoom(final int col, final int row)
+	{
+		//the maze we are drawing
+		final Maze maze = labyrinth.getMaze();
+
+		//the location in the bitmap
+		final int x = col * Labyrinth.WIDTH_TOP_DOWN;
+		final int y = row * Labyrinth.HEIGHT_TOP_DOWN;
+
+		//get the tile for the room
+		final TileKey key = LabyrinthHelper.getTileKey(labyrinth.getGrid().getWalls(col, row), false);
+
+		//draw the tile
+		if (key != null)
+			draw(key, x, y);
+
+		if (maze.getFinishCol() == col && maze.getFinishRow() == row)
+		{
+			//if this is the goal, also draw the goal tile
+			draw(TileKey.TopDownGoal, x, y);
+		}
+		else if (maze.getRoom(col, row).hasVisited())
+		{
+			//if we visited this tile, draw overlay
+			draw(TileKey.TopDownVisited, x, y);
+		}
+	}
+
+	/**
+	 * Draw the animation image into our bitmap
+	 * @param key The animation key
+	 * @param x x-coordinate
+	 * @param y y-coordinate
+	 */
+	private void draw(final TileKey key, final int x, final int y)
+	{
+		canvas.drawBitmap(labyrinth.getSpritesheet().get(key).getImage(), x, y, null);
+	}
+
+	/**
+	 * Copy the visible area of the maze to the screen
+	 * @param canvas Object to write pixel data
+	 * @param x The screen x-coordinate of the maze (0, 0) location
+	 * @param y The screen y-coordinate of the maze (0, 0) location
+	 */
+	protected void render(final Canvas canvas, final int x, final int y)
+	{
+		//the area of the bitmap that is on the screen
+		source.set(
+			Math.max(0, -x),
+			Math.max(0, -y),
+			Math.min(bitmap.getWidth(), GamePanel.WIDTH - x),
+			Math.min(bitmap.getHeight(), GamePanel.HEIGHT - y)
+		);
+
+		//if nothing is visible there is nothing to draw
+		if (source.right <= source.left || source.bottom <= source.top)
+			return;
+
+		//the location on the screen
+		destination.set(source.left + x, source.top + y, source.right + x, source.bottom + y);
+
+		//copy the visible area
+		canvas.drawBitmap(bitmap, source, destination, null);
+	}
+
+	@Override
+	public void dispose()
+	{
+		canvas = null;
+
+		if (bitmap != null)
+		{
+			bitmap.recycle();
+			bitmap = null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import android.app.Activity;
+
+import com.gamesbykevin.androidframework.io.storage.Internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Here we will keep the mazes that were previously generated and save them to the internal storage.<br>
+ * The casual and timed levels always create the same maze, so we don't need to generate them again.<br>
+ * Each maze is saved as one hex character per room containing the wall bits.<br>
+ * Saving is done by a background thread, reading a maze never writes to the internal storage.
+ * @author GOD
+ */
+public final class LabyrinthCache extends Internal
+{
+    /**
+     * New maze separator string
+     */
+    private static final String NEW_MAZE = ";";
+
+    /**
+     * This string will separate the data for a maze
+     */
+    private static final String SEPARATOR = "-";
+
+    /**
+     * The most characters of wall data we will save, the least recently used mazes are removed first
+     */
+    private static final int MAX_CHARACTERS = 64 * 1024;
+
+    //the saved walls of each maze, ordered from least to most recently used
+    private LinkedHashMap<String, String> mazes;
+
+    //the total characters of wall data
+    private int characters = 0;
+
+    //has the order of the mazes changed since it was saved
+    private boolean dirty = false;
+
+    //the thread writing our mazes
+    private LabyrinthCacheWriter writer;
+
+    public LabyrinthCache(final Activity activity)
+    {
+        super("Labyrinths", activity);
+
+        //access order so the eldest entry is the least recently used
+        this.mazes = new LinkedHashMap<String, String>(16, 0.75f, true);
+
+        //make sure content exists before we try to load it
+        if (super.getContent().toString().trim().length() > 0)
+        {
+            try
+            {
+                //split the content into each maze
+                final String[] data = super.getContent().toString().split(NEW_MAZE);
+
+                for (int index = 0; index < data.length; index++)
+                {
+                    //the walls are after the last separator
+                    final int split = data[index].lastIndexOf(SEPARATOR);
+
+                    //add the maze to our list
+                    add(data[index].substring(0, split), data[index].substring(split + 1));
+                }
+            }
+            catch (Exception e)
+            {
+                e.printStackTrace();
+
+                //if the content is corrupt start over
+                mazes.clear();
+                characters = 0;
+            }
+        }
+
+        //start the thread that writes our mazes
+        this.writer = new LabyrinthCacheWriter(this);
+        this.writer.start();
+    }
+
+    /**
+     * Get the key used to identify a maze
+     * @param level The level index
+     * @param size The size index
+     * @param algorithm The index of the algorithm used to generate the maze
+     * @return The key of the maze
+     */
+    public static String getKey(final int level, final int size, final int algorithm)
+    {
+        return level + SEPARATOR + size + SEPARATOR + algorithm;
+    }
+
+    /**
+     * Get the walls of the saved maze
+     * @param key The key of the maze
+     * @param cols The number of columns expected
+     * @param rows The number of rows expected
+     * @return The bit flags of the walls in each room stored row by row, null if the maze is not saved
+     */
+    public synchronized byte[] get(final String key, final int cols, final int rows)
+    {
+        //get the maze, this also marks it most recently used
+        final String walls = mazes.get(key);
+
+        //if not found or a different size we can't use it
+        if (walls == null || walls.length() != cols * rows)
+            return null;
+
+        //decode the walls of each room
+        final byte[] result = new byte[walls.length()];
+
+        for (int index = 0; index < result.length; index++)
+        {
+            final int value = Character.digit(walls.charAt(index), 16);
+
+            //if the data isn't valid we can't use it
+            if (value < 0)
+                return null;
+
+            result[index] = (byte)value;
+        }
+
+        //the order changed, it is saved with the next maze or when we are disposed
+        dirty = true;
+
+        return result;
+    }
+
+    /**
+     * Save the walls of the generated maze.<br>
+     * This returns right away, the mazes are written by a background thread
+     * @param key The key of the maze
+     * @param grid The walls of the generated maze
+     */
+    public synchronized void put(final String key, final LabyrinthGrid grid)
+    {
+        //encode the walls of each room
+        final StringBuilder walls = new StringBuilder(grid.getCols() * grid.getRows());
+
+        for (int index = 0; index < grid.getCols() * grid.getRows(); index++)
+        {
+            walls.append(Character.forDigit(grid.getWalls(index), 16));
+        }
+
+        //add the maze
+        add(key, walls.toString());
+
+        //save the mazes
+        save();
+    }
+
+    /**
+     * Add the maze, removing the least recently used mazes if we have too much data
+     * @param key The key of the maze
+     * @param walls The encoded walls of the maze
+     */
+    private void add(final String key, final String walls)
+    {
+        //if the maze already exists remove it
+        final String previous = mazes.remove(key);
+
+        if (previous != null)
+            characters -= previous.length();
+
+        //add the maze
+        mazes.put(key, walls);
+        characters += walls.length();
+
+        //remove the least recently used, but always keep the newest maze
+        final Iterator<Map.Entry<String, String>> iterator = mazes.entrySet().iterator();
+
+        while (characters > MAX_CHARACTERS && mazes.size() > 1)
+        {
+            characters -= iterator.next().getValue().length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Save the mazes to the internal storage.<br>
+     * This returns right away, the mazes are written by a background thread
+     */
+    @Override
+    public void save()
+    {
+        if (writer != null)
+            writer.request();
+    }
+
+    /**
+     * Write the mazes to the internal storage.<br>
+     * This is called by the writer thread, only the content is created while we hold the lock
+     */
+    protected void write()
+    {
+        synchronized (this)
+        {
+            //remove all existing content
+            super.getContent().delete(0, super.getContent().length());
+
+            for (Map.Entry<String, String> maze : mazes.entrySet())
+            {
+                //if content exists, add delimiter to separate each maze
+                if (super.getContent().length() > 0)
+                    super.getContent().append(NEW_MAZE);
+
+                //write the key and walls
+                super.getContent().append(maze.getKey());
+                super.getContent().append(SEPARATOR);
+                super.getContent().append(maze.getValue());
+            }
+
+            //the content has the current order
+            dirty = false;
+        }
+
+        //save the content to physical internal storage location
+        super.save();
+    }
+
+    @Override
+    public void dispose()
+    {
+        //write the order of the mazes and any pending maze before we stop
+        if (writer != null)
+        {
+            synchronized (this)
+            {
+                if (dirty)
+                    writer.request();
+            }
+
+            writer.finish();
+            writer = null;
+        }
+
+        super.dispose();
+
+        if (mazes != null)
+        {
+            mazes.clear();
+            mazes = null;
+        }
+    }
+}
\ No newline at end of file
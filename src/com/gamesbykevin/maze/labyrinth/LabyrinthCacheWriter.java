@@ -0,0 +1,103 @@
+package com.gamesbykevin.maze.labyrinth;
+
+/**
+ * The thread writing the maze cache to the internal storage.<br>
+ * Requests are coalesced, if the cache changes several times before we get to write it is only written once.
+ * @author GOD
+ */
+final class LabyrinthCacheWriter extends Thread
+{
+    //the cache we are writing
+    private final LabyrinthCache cache;
+
+    //the lock used to wait for a request
+    private final Object lock = new Object();
+
+    //does the cache need to be written
+    private boolean pending = false;
+
+    //are we still accepting requests
+    private boolean running = true;
+
+    /**
+     * Create a new writer
+     * @param cache The cache we are writing
+     */
+    protected LabyrinthCacheWriter(final LabyrinthCache cache)
+    {
+        super("LabyrinthCacheWriter");
+
+        //store our reference
+        this.cache = cache;
+
+        //we don't want to keep the application alive
+        setDaemon(true);
+    }
+
+    /**
+     * Request the cache be written.<br>
+     * This returns right away, the cache will be written on this thread
+     */
+    protected void request()
+    {
+        synchronized (lock)
+        {
+            pending = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stop accepting requests.<br>
+     * Any pending request is written before this returns
+     */
+    protected void finish()
+    {
+        synchronized (lock)
+        {
+            running = false;
+            lock.notifyAll();
+        }
+
+        try
+        {
+            join();
+        }
+        catch (InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        while (true)
+        {
+            synchronized (lock)
+            {
+                //wait until there is something to write
+                while (!pending && running)
+                {
+                    try
+                    {
+                        lock.wait();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        e.printStackTrace();
+                    }
+                }
+
+                //if nothing is pending we are done
+                if (!pending)
+                    break;
+
+                //any request from here on will need another write
+                pending = false;
+            }
+
+            cache.write();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,446 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.gamesbykevin.androidframework.maze.Maze;
+import com.gamesbykevin.androidframework.resources.Disposable;
+import com.gamesbykevin.maze.labyrinth.Labyrinth.TileKey;
+import com.gamesbykevin.maze.panel.GamePanel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+/**
+ * The isometric maze pre-rendered in chunks of rooms.<br>
+ * The whole isometric maze is too large for a single bitmap, so we only keep the chunks recently on the screen.<br>
+ * Each chunk covers a range of rows and a range of diagonals (col + row), so rendering the chunks in order overlaps the tiles the same as the labyrinth.<br>
+ * The least recently used chunk is removed once we run out of memory.
+ * @author GOD
+ */
+public final class LabyrinthChunkCache implements Disposable
+{
+	/**
+	 * The number of rows and diagonals of rooms in a single chunk
+	 */
+	private static final int CHUNK_SIZE = 8;
+
+	/**
+	 * The distance between each room when rendering isometric
+	 */
+	private static final int STEP_X = Labyrinth.STEP_WIDTH_ISOMETRIC;
+	private static final int STEP_Y = Labyrinth.STEP_HEIGHT_ISOMETRIC;
+
+	/**
+	 * The location of the room on the first diagonal of the first row within the chunk bitmap.<br>
+	 * The rooms on the last row of the chunk are furthest left
+	 */
+	private static final int ORIGIN_X = (CHUNK_SIZE - 1) * STEP_X * 2;
+
+	/**
+	 * The dimensions of a chunk bitmap large enough for every room in the chunk
+	 */
+	private static final int CHUNK_WIDTH = ORIGIN_X + ((CHUNK_SIZE - 1) * STEP_X) + Labyrinth.WIDTH_ISOMETRIC;
+	private static final int CHUNK_HEIGHT = ((CHUNK_SIZE - 1) * STEP_Y) + Labyrinth.HEIGHT_ISOMETRIC;
+
+	/**
+	 * The isometric tiles are transparent around the edges so we need an alpha channel
+	 */
+	private static final Bitmap.Config CONFIG = Bitmap.Config.ARGB_8888;
+
+	/**
+	 * The number of bytes per pixel for our config
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/**
+	 * The fraction of the maximum heap we are willing to use for the chunks
+	 */
+	private static final int HEAP_RATIO = 4;
+
+	/**
+	 * The minimum number of chunks we need to cover the screen
+	 */
+	private static final int CHUNKS_MINIMUM = 12;
+
+	//the labyrinth we are rendering
+	private final Labyrinth labyrinth;
+
+	//the number of chunks along the diagonals and down the rows
+	private final int chunkDiagonals, chunkRows;
+
+	//the most chunks we will keep at once
+	private final int capacity;
+
+	//the rendered chunks, ordered from least to most recently used
+	private final LinkedHashMap<Integer, Bitmap> chunks;
+
+	//the chunks that need to be drawn again
+	private final boolean[] dirty;
+
+	//a chunk bitmap removed from the cache that we can use again
+	private Bitmap spare;
+
+	//canvas used to draw into a chunk
+	private final Canvas canvas;
+
+	/**
+	 * Create an empty chunk cache, the chunks are drawn when needed
+	 * @param labyrinth The labyrinth containing the generated maze
+	 */
+	protected LabyrinthChunkCache(final Labyrinth labyrinth)
+	{
+		//store our reference
+		this.labyrinth = labyrinth;
+
+		//determine how many chunks are needed to cover the maze, there are (cols + rows - 1) diagonals
+		this.chunkDiagonals = (labyrinth.getMaze().getCols() + labyrinth.getMaze().getRows() - 1 + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		this.chunkRows = (labyrinth.getMaze().getRows() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+		//the memory used by a single chunk
+		final long bytes = (long)CHUNK_WIDTH * CHUNK_HEIGHT * BYTES_PER_PIXEL;
+
+		//determine how many chunks fit in our memory budget
+		this.capacity = (int)Math.max(CHUNKS_MINIMUM, Runtime.getRuntime().maxMemory() / HEAP_RATIO / bytes);
+
+		//access order so the eldest entry is the least recently used
+		this.chunks = new LinkedHashMap<Integer, Bitmap>(16, 0.75f, true);
+
+		//track which chunks need to be drawn again
+		this.dirty = new boolean[chunkDiagonals * chunkRows];
+
+		//canvas to draw the chunks
+		this.canvas = new Canvas();
+	}
+
+	/**
+	 * Get the chunk index containing the room
+	 * @param col Column
+	 * @param row Row
+	 * @return The index of the chunk
+	 */
+	private int getIndex(final int col, final int row)
+	{
+		return ((row / CHUNK_SIZE) * chunkDiagonals) + ((col + row) / CHUNK_SIZE);
+	}
+
+	/**
+	 * Flag the chunk containing the room to be drawn again
+	 * @param col Column
+	 * @param row Row
+	 */
+	protected void invalidate(final int col, final int row)
+	{
+		dirty[getIndex(col, row)] = true;
+	}
+
+	/**
+	 * Flag every chunk to be drawn again
+	 */
+	protected void invalidateAll()
+	{
+		for (int i = 0; i < dirty.length; i++)
+		{
+			dirty[i] = true;
+		}
+	}
+
+	/**
+	 * Does the chunk contain any rooms?<br>
+	 * The chunks at the corners of the maze can be outside of it
+	 * @param chunkDiagonal The chunk diagonal
+	 * @param chunkRow The chunk row
+	 * @return true = yes, false = no
+	 */
+	private boolean hasRooms(final int chunkDiagonal, final int chunkRow)
+	{
+		//the maze we are drawing
+		final Maze maze = labyrinth.getMaze();
+
+		//the first diagonal in the chunk
+		final int startDiagonal = chunkDiagonal * CHUNK_SIZE;
+
+		//the last row in the chunk
+		final int endRow = Math.min((chunkRow + 1) * CHUNK_SIZE, maze.getRows());
+
+		for (int row = chunkRow * CHUNK_SIZE; row < endRow; row++)
+		{
+			//check if any column of this row is on the diagonals of the chunk
+			if (Math.max(0, startDiagonal - row) < Math.min(maze.getCols(), startDiagonal + CHUNK_SIZE - row))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Get the chunk bitmap, drawing it if it doesn't exist or has changed
+	 * @param chunkDiagonal The chunk diagonal
+	 * @param chunkRow The chunk row
+	 * @return The rendered chunk
+	 */
+	private Bitmap getChunk(final int chunkDiagonal, final int chunkRow)
+	{
+		//the index of the chunk
+		final int index = (chunkRow * chunkDiagonals) + chunkDiagonal;
+
+		//get the chunk, this also marks it most recently used
+		Bitmap chunk = chunks.get(index);
+
+		if (chunk == null)
+		{
+			//use a previously removed chunk if we have one
+			if (spare != null)
+			{
+				chunk = spare;
+				spare = null;
+			}
+			else
+			{
+				chunk = Bitmap.createBitmap(CHUNK_WIDTH, CHUNK_HEIGHT, CONFIG);
+			}
+
+			//draw and add the chunk
+			draw(chunk, chunkDiagonal, chunkRow);
+			chunks.put(index, chunk);
+
+			//remove the least recently used chunks if we have too many
+			trim();
+		}
+		else if (dirty[index])
+		{
+			//draw the chunk again
+			draw(chunk, chunkDiagonal, chunkRow);
+		}
+
+		//the chunk is now up to date
+		dirty[index] = false;
+
+		return chunk;
+	}
+
+	/**
+	 * Remove the least recently used chunks until we are within capacity
+	 */
+	private void trim()
+	{
+		final Iterator<Map.Entry<Integer, Bitmap>> iterator = chunks.entrySet().iterator();
+
+		while (chunks.size() > capacity && iterator.hasNext())
+		{
+			final Bitmap chunk = iterator.next().getValue();
+			iterator.remove();
+
+			//keep one bitmap to use again, the rest are freed
+			if (spare == null)
+			{
+				spare = chunk;
+			}
+			else
+			{
+				chunk.recycle();
+			}
+		}
+	}
+
+	/**
+	 * Draw every room of the chunk into the bitmap
+	 * @param chunk The bitmap we are drawing into
+	 * @param chunkDiagonal The chunk diagonal
+	 * @param chunkRow The chunk row
+	 */
+	private void draw(final Bitmap chunk, final int chunkDiagonal, final int chunkRow)
+	{
+		//the maze we are drawing
+		final Maze maze = labyrinth.getMaze();
+
+		//clear the previous chunk
+		chunk.eraseColor(Color.TRANSPARENT);
+		canvas.setBitmap(chunk);
+
+		//the first diagonal and row in the chunk
+		final int startDiagonal = chunkDiagonal * CHUNK_SIZE;
+		final int startRow = chunkRow * CHUNK_SIZE;
+
+		//the last row in the chunk
+		final int endRow = Math.min(startRow + CHUNK_SIZE, maze.getRows());
+
+		//draw the same order as the labyrinth so the tiles overlap correctly
+		for (int row = startRow; row < endRow; row++)
+		{
+			//only the columns of this row on the diagonals of the chunk
+			final int endCol = Math.min(maze.getCols(), startDiagonal + CHUNK_SIZE - row);
+
+			for (int col = Math.max(0, startDiagonal - row); col < endCol; col++)
+			{
+				//the diagonal within the chunk
+				final int diagonal = (col + row) - startDiagonal;
+
+				//the location in the chunk
+				final int x = ORIGIN_X + ((diagonal - ((row - startRow) * 2)) * STEP_X);
+				final int y = diagonal * STEP_Y;
+
+				//get the tile for the room
+				final TileKey key = LabyrinthHelper.getTileKey(labyrinth.getGrid().getWalls(col, row), true);
+
+				//draw the tile
+				if (key != null)
+					draw(key, x, y);
+
+				if (maze.getFinishCol() == col && maze.getFinishRow() == row)
+				{
+					//if this is the goal, also draw the goal tile
+					draw(TileKey.IsometricGoal, x, y);
+				}
+				else if (maze.getRoom(col, row).hasVisited())
+				{
+					//if we visited this tile, draw overlay
+					draw(TileKey.IsometricVisited, x, y);
+				}
+			}
+		}
+
+		//don't hold on to the bitmap
+		canvas.setBitmap(null);
+	}
+
+	/**
+	 * Draw the animation image into the current chunk
+	 * @param key The animation key
+	 * @param x x-coordinate
+	 * @param y y-coordinate
+	 */
+	private void draw(final TileKey key, final int x, final int y)
+	{
+		canvas.drawBitmap(labyrinth.getSpritesheet().get(key).getImage(), x, y, null);
+	}
+
+	/**
+	 * Get the screen x-coordinate of the chunk bitmap.<br>
+	 * The chunk is positioned by the room on its first diagonal and first row, even if that room is outside of the maze
+	 * @param chunkDiagonal The chunk diagonal
+	 * @param chunkRow The chunk row
+	 * @return The x-coordinate of the chunk
+	 */
+	private int getChunkX(final int chunkDiagonal, final int chunkRow)
+	{
+		return (int)Math.floor(labyrinth.getCoordinateX((chunkDiagonal - chunkRow) * CHUNK_SIZE, chunkRow * CHUNK_SIZE)) - ORIGIN_X;
+	}
+
+	/**
+	 * Get the screen y-coordinate of the chunk bitmap
+	 * @param chunkDiagonal The chunk diagonal
+	 * @param chunkRow The chunk row
+	 * @return The y-coordinate of the chunk
+	 */
+	private int getChunkY(final int chunkDiagonal, final int chunkRow)
+	{
+		return (int)Math.floor(labyrinth.getCoordinateY((chunkDiagonal - chunkRow) * CHUNK_SIZE, chunkRow * CHUNK_SIZE));
+	}
+
+	/**
+	 * Is the chunk on the screen?
+	 * @param x The screen x-coordinate of the chunk
+	 * @param y The screen y-coordinate of the chunk
+	 * @return true = yes, false = no
+	 */
+	private boolean isVisible(final int x, final int y)
+	{
+		if (x + CHUNK_WIDTH < 0 || x > GamePanel.WIDTH)
+			return false;
+		if (y + CHUNK_HEIGHT < 0 || y > GamePanel.HEIGHT)
+			return false;
+
+		return true;
+	}
+
+	/**
+	 * Draw the next chunk in the direction we are heading, so it is ready before it is on the screen.<br>
+	 * At most one chunk is drawn each call.
+	 * @param col The current column
+	 * @param row The current row
+	 * @param dx The column velocity
+	 * @param dy The row velocity
+	 */
+	protected void prefetch(final double col, final double row, final double dx, final double dy)
+	{
+		//if not moving there is nothing to prefetch
+		if (dx == 0 && dy == 0)
+			return;
+
+		//the location one chunk ahead of us
+		final double targetCol = col + (Math.signum(dx) * CHUNK_SIZE);
+		final double targetRow = row + (Math.signum(dy) * CHUNK_SIZE);
+
+		//make sure the location is in the maze
+		if (targetCol < 0 || targetRow < 0)
+			return;
+		if (targetCol >= labyrinth.getMaze().getCols() || targetRow >= labyrinth.getMaze().getRows())
+			return;
+
+		//the chunk containing the location
+		final int index = getIndex((int)targetCol, (int)targetRow);
+
+		//draw the chunk if it is not ready
+		if (dirty[index] || !chunks.containsKey(index))
+			getChunk(index % chunkDiagonals, index / chunkDiagonals);
+	}
+
+	/**
+	 * Render the chunks that are on the screen.<br>
+	 * Only the chunks containing the visible rows and diagonals are checked
+	 * @param canvas Object to write pixel data
+	 * @param rowStart The first row that can be on the screen
+	 * @param rowEnd The last row that can be on the screen
+	 * @param diagonalStart The first diagonal (col + row) that can be on the screen
+	 * @param diagonalEnd The last diagonal (col + row) that can be on the screen
+	 */
+	protected void render(final Canvas canvas, final int rowStart, final int rowEnd, final int diagonalStart, final int diagonalEnd)
+	{
+		//the last chunk that can be on the screen
+		final int chunkDiagonalEnd = Math.min(chunkDiagonals - 1, diagonalEnd / CHUNK_SIZE);
+		final int chunkRowEnd = Math.min(chunkRows - 1, rowEnd / CHUNK_SIZE);
+
+		//every room a tile is drawn over is on the same or an earlier diagonal and row,
+		//so rendering the chunks by diagonal then row overlaps them the same as the tiles
+		for (int chunkDiagonal = diagonalStart / CHUNK_SIZE; chunkDiagonal <= chunkDiagonalEnd; chunkDiagonal++)
+		{
+			for (int chunkRow = rowStart / CHUNK_SIZE; chunkRow <= chunkRowEnd; chunkRow++)
+			{
+				//where the chunk is on the screen
+				final int x = getChunkX(chunkDiagonal, chunkRow);
+				final int y = getChunkY(chunkDiagonal, chunkRow);
+
+				//if the chunk is not on the screen we won't need to render
+				if (!isVisible(x, y))
+					continue;
+
+				//the chunks at the corners may not have any rooms to draw
+				if (!hasRooms(chunkDiagonal, chunkRow))
+					continue;
+
+				//draw the chunk
+				canvas.drawBitmap(getChunk(chunkDiagonal, chunkRow), x, y, null);
+			}
+		}
+	}
+
+	@Override
+	public void dispose()
+	{
+		for (Bitmap chunk : chunks.values())
+		{
+			chunk.recycle();
+		}
+
+		chunks.clear();
+
+		if (spare != null)
+		{
+			spare.recycle();
+			spare = null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import java.util.Random;
+
+import com.gamesbykevin.androidframework.maze.Maze;
+
+/**
+ * Worker thread that will generate a maze away from the game loop.<br>
+ * The maze is only handed to the labyrinth once it has been completely generated.
+ * @author GOD
+ */
+public final class LabyrinthGenerator extends Thread
+{
+	//the maze we are generating
+	private final Maze maze;
+
+	//the random object used to create the maze
+	private final Random random;
+
+	//has the generation been cancelled
+	private volatile boolean cancel = false;
+
+	//has the maze finished generating
+	private volatile boolean complete = false;
+	
+	//the game settings the maze was created for
+	private final int level, size, mode;
+	
+	//the key to save the maze once generated, null if it won't be saved
+	private final String cacheKey;
+
+	/**
+	 * Create a new maze generator
+	 * @param maze The maze we want to generate
+	 * @param random The random object used to make decisions, each generator should have its own
+	 * @param level The level index
+	 * @param size The size index
+	 * @param mode The game mode index
+	 * @param cacheKey The key to save the maze once generated, null if it won't be saved
+	 */
+	protected LabyrinthGenerator(final Maze maze, final Random random, final int level, final int size, final int mode, final String cacheKey)
+	{
+		super("LabyrinthGenerator");
+
+		//store our references
+		this.maze = maze;
+		this.random = random;
+		
+		//store the settings
+		this.level = level;
+		this.size = size;
+		this.mode = mode;
+		this.cacheKey = cacheKey;
+
+		//don't prevent the application from closing
+		super.setDaemon(true);
+	}
+
+	@Override
+	public void run()
+	{
+		try
+		{
+			//continue to update the maze until generated or we are told to stop
+			while (!hasCancel() && !getMaze().isGenerated())
+			{
+				getMaze().update(random);
+			}
+
+			//flag complete if the maze was generated
+			this.complete = (!hasCancel() && getMaze().isGenerated());
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Stop generating the maze.<br>
+	 * The maze will never be flagged complete once cancelled
+	 */
+	protected void cancel()
+	{
+		this.cancel = true;
+	}
+
+	/**
+	 * Has this generator been cancelled?
+	 * @return true = yes, false = no
+	 */
+	protected boolean hasCancel()
+	{
+		return this.cancel;
+	}
+
+	/**
+	 * Is the maze generated and ready to be handed off?
+	 * @return true = yes, false = no
+	 */
+	protected boolean isComplete()
+	{
+		return this.complete;
+	}
+
+	/**
+	 * Was this maze created for the specified game settings?
+	 * @param level The level index
+	 * @param size The size index
+	 * @param mode The game mode index
+	 * @return true = yes, false = no
+	 */
+	protected boolean hasSettings(final int level, final int size, final int mode)
+	{
+		return (this.level == level && this.size == size && this.mode == mode);
+	}
+
+	/**
+	 * Get the key to save the maze
+	 * @return The key to save the maze once generated, null if it won't be saved
+	 */
+	protected String getCacheKey()
+	{
+		return this.cacheKey;
+	}
+
+	/**
+	 * Get the maze.<br>
+	 * While generating, this should only be used to render the progress
+	 * @return The maze being generated
+	 */
+	protected Maze getMaze()
+	{
+		return this.maze;
+	}
+}
\ No newline at end of file
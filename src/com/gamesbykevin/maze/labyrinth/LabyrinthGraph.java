@@ -0,0 +1,321 @@
+package com.gamesbykevin.maze.labyrinth;
+
+/**
+ * The generated maze contracted into a graph of junctions and dead ends.<br>
+ * Every room with more or less than 2 open sides is a node, as well as the start and finish.<br>
+ * The other rooms are corridors with only one way forward, each edge stores the rooms along its corridor.<br>
+ * This is built once when the maze is generated so movement and the solvers can skip whole corridors.
+ * @author GOD
+ */
+public final class LabyrinthGraph
+{
+	/**
+	 * The value used when there is no node or edge
+	 */
+	public static final int NONE = LabyrinthGrid.NONE;
+
+	/**
+	 * Each direction an edge can leave a node, the edges of a node are stored in this order
+	 */
+	private static final byte[] DIRECTIONS = {
+		LabyrinthGrid.WALL_NORTH,
+		LabyrinthGrid.WALL_EAST,
+		LabyrinthGrid.WALL_SOUTH,
+		LabyrinthGrid.WALL_WEST
+	};
+
+	//the node of each room, NONE if the room is part of a corridor
+	private final int[] nodes;
+
+	//the room of each node
+	private final int[] rooms;
+
+	//the node reached by each edge, NONE if there is a wall
+	private final int[] targets;
+
+	//the number of rooms moved along each edge
+	private final int[] lengths;
+
+	//where the rooms of each edge start in the sequence
+	private final int[] offsets;
+
+	//the rooms along every edge, each edge ends with the room of its target node
+	private final int[] sequence;
+
+	/**
+	 * Build the graph from the walls of the generated maze
+	 * @param grid The walls of the maze
+	 * @param start The index of the start room
+	 * @param finish The index of the finish room
+	 */
+	public LabyrinthGraph(final LabyrinthGrid grid, final int start, final int finish)
+	{
+		//the number of rooms in the maze
+		final int total = grid.getCols() * grid.getRows();
+
+		//find the nodes
+		this.nodes = new int[total];
+
+		int count = 0;
+
+		for (int index = 0; index < total; index++)
+		{
+			//corridors have exactly 2 open sides, but the start and finish are always nodes
+			if (getOpenSides(grid, index) != 2 || index == start || index == finish)
+			{
+				nodes[index] = count++;
+			}
+			else
+			{
+				nodes[index] = NONE;
+			}
+		}
+
+		//store the room of each node
+		this.rooms = new int[count];
+
+		for (int index = 0; index < total; index++)
+		{
+			if (nodes[index] != NONE)
+				rooms[nodes[index]] = index;
+		}
+
+		//each node has an edge slot for each direction
+		this.targets = new int[count * DIRECTIONS.length];
+		this.lengths = new int[count * DIRECTIONS.length];
+		this.offsets = new int[count * DIRECTIONS.length];
+
+		//measure each corridor so we know how many rooms to store
+		int size = 0;
+
+		for (int edge = 0; edge < targets.length; edge++)
+		{
+			//the first room along the edge
+			final int neighbor = grid.getNeighbor(rooms[edge / DIRECTIONS.length], DIRECTIONS[edge % DIRECTIONS.length]);
+
+			offsets[edge] = size;
+			lengths[edge] = (neighbor == NONE) ? 0 : walk(grid, rooms[edge / DIRECTIONS.length], neighbor, null, 0);
+			size += lengths[edge];
+		}
+
+		//now store the rooms of each corridor
+		this.sequence = new int[size];
+
+		for (int edge = 0; edge < targets.length; edge++)
+		{
+			if (lengths[edge] == 0)
+			{
+				targets[edge] = NONE;
+				continue;
+			}
+
+			//the first room along the edge
+			final int neighbor = grid.getNeighbor(rooms[edge / DIRECTIONS.length], DIRECTIONS[edge % DIRECTIONS.length]);
+
+			walk(grid, rooms[edge / DIRECTIONS.length], neighbor, sequence, offsets[edge]);
+
+			//the corridor ends at the target node
+			targets[edge] = nodes[sequence[offsets[edge] + lengths[edge] - 1]];
+		}
+	}
+
+	/**
+	 * Count the open sides of the room
+	 * @param grid The walls of the maze
+	 * @param index The index of the room
+	 * @return The number of neighbors we can move to
+	 */
+	private static int getOpenSides(final LabyrinthGrid grid, final int index)
+	{
+		int count = 0;
+
+		for (int wall : DIRECTIONS)
+		{
+			if (grid.getNeighbor(index, wall) != NONE)
+				count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Follow the corridor until we reach a node
+	 * @param grid The walls of the maze
+	 * @param previous The room we are coming from
+	 * @param current The first room of the corridor
+	 * @param rooms Where to store each room we pass, null if we only want the length
+	 * @param offset The position to store the first room
+	 * @return The number of rooms moved including the node at the end
+	 */
+	private int walk(final LabyrinthGrid grid, int previous, int current, final int[] rooms, final int offset)
+	{
+		int length = 0;
+
+		while (true)
+		{
+			if (rooms != null)
+				rooms[offset + length] = current;
+
+			length++;
+
+			//stop once we reach a node
+			if (nodes[current] != NONE)
+				return length;
+
+			//a corridor only has one way forward that isn't where we came from
+			for (int wall : DIRECTIONS)
+			{
+				final int neighbor = grid.getNeighbor(current, wall);
+
+				if (neighbor != NONE && neighbor != previous)
+				{
+					previous = current;
+					current = neighbor;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the number of nodes
+	 * @return The total junctions, dead ends, start and finish
+	 */
+	public int getNodeCount()
+	{
+		return this.rooms.length;
+	}
+
+	/**
+	 * Get the node of the room
+	 * @param index The index of the room
+	 * @return The node of the room, NONE if the room is part of a corridor
+	 */
+	public int getNode(final int index)
+	{
+		return this.nodes[index];
+	}
+
+	/**
+	 * Get the room of the node
+	 * @param node The node
+	 * @return The index of the room
+	 */
+	public int getNodeRoom(final int node)
+	{
+		return this.rooms[node];
+	}
+
+	/**
+	 * Get the edge leaving the node in the specified direction
+	 * @param node The node, NONE is allowed
+	 * @param wall The bit flag of the direction to move
+	 * @return The edge, NONE if there is no node or a wall is in the way
+	 */
+	public int getEdge(final int node, final int wall)
+	{
+		if (node == NONE)
+			return NONE;
+
+		for (int i = 0; i < DIRECTIONS.length; i++)
+		{
+			if (DIRECTIONS[i] == wall)
+			{
+				final int edge = (node * DIRECTIONS.length) + i;
+
+				return (targets[edge] == NONE) ? NONE : edge;
+			}
+		}
+
+		return NONE;
+	}
+
+	/**
+	 * Get the number of edges leaving the node
+	 * @param node The node
+	 * @return The number of open sides of the node's room
+	 */
+	public int getDegree(final int node)
+	{
+		int count = 0;
+
+		for (int i = 0; i < DIRECTIONS.length; i++)
+		{
+			if (targets[(node * DIRECTIONS.length) + i] != NONE)
+				count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Get the node the edge leaves from
+	 * @param edge The edge
+	 * @return The source node
+	 */
+	public int getSource(final int edge)
+	{
+		return (edge / DIRECTIONS.length);
+	}
+
+	/**
+	 * Get the node the edge leads to
+	 * @param edge The edge
+	 * @return The target node
+	 */
+	public int getTarget(final int edge)
+	{
+		return this.targets[edge];
+	}
+
+	/**
+	 * Get the length of the corridor
+	 * @param edge The edge
+	 * @return The number of rooms moved from the source to the target
+	 */
+	public int getLength(final int edge)
+	{
+		return this.lengths[edge];
+	}
+
+	/**
+	 * Get a room along the corridor
+	 * @param edge The edge
+	 * @param step The step along the corridor, the last step is the room of the target node
+	 * @return The index of the room
+	 */
+	public int getCorridorRoom(final int edge, final int step)
+	{
+		return this.sequence[offsets[edge] + step];
+	}
+
+	/**
+	 * Get the edge continuing through the target node, when the node only has one way forward.<br>
+	 * This happens when the start or finish are in the middle of a corridor.
+	 * @param edge The edge we arrived from
+	 * @return The edge leading forward, NONE if the target is a junction or dead end
+	 */
+	public int getContinuation(final int edge)
+	{
+		//the node we arrived at
+		final int node = getTarget(edge);
+
+		//if there isn't exactly one way forward we have to stop
+		if (getDegree(node) != 2)
+			return NONE;
+
+		//the room we arrived from
+		final int previous = (getLength(edge) > 1) ? getCorridorRoom(edge, getLength(edge) - 2) : getNodeRoom(getSource(edge));
+
+		//take the edge that doesn't lead back
+		for (int i = 0; i < DIRECTIONS.length; i++)
+		{
+			final int next = (node * DIRECTIONS.length) + i;
+
+			if (targets[next] != NONE && getCorridorRoom(next, 0) != previous)
+				return next;
+		}
+
+		return NONE;
+	}
+}
\ No newline at end of file
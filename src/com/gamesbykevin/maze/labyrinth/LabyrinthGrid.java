@@ -0,0 +1,251 @@
+package com.gamesbykevin.maze.labyrinth;
+
+import com.gamesbykevin.androidframework.maze.Maze;
+import com.gamesbykevin.androidframework.maze.Room;
+import com.gamesbykevin.androidframework.maze.Room.Wall;
+
+/**
+ * A packed snapshot of the walls in a generated maze.<br>
+ * Each room is a single byte where each bit represents a wall.<br>
+ * This is built once when the maze is generated and used by the game instead of the room objects.
+ * @author GOD
+ */
+public final class LabyrinthGrid
+{
+	/**
+	 * Bit flag for each wall of a room
+	 */
+	public static final byte WALL_NORTH = 1;
+	public static final byte WALL_SOUTH = 2;
+	public static final byte WALL_EAST = 4;
+	public static final byte WALL_WEST = 8;
+
+	/**
+	 * Every wall of a room
+	 */
+	public static final byte WALL_ALL = (WALL_NORTH | WALL_SOUTH | WALL_EAST | WALL_WEST);
+
+	/**
+	 * The index used when there is no room
+	 */
+	public static final int NONE = -1;
+
+	//the dimensions of the maze
+	private final int cols, rows;
+
+	//the walls of every room, stored row by row
+	private final byte[] walls;
+
+	/**
+	 * Create a snapshot of the walls in the specified maze
+	 * @param maze The generated maze
+	 */
+	public LabyrinthGrid(final Maze maze)
+	{
+		//store the dimensions
+		this.cols = maze.getCols();
+		this.rows = maze.getRows();
+
+		//create our array for every room
+		this.walls = new byte[cols * rows];
+
+		for (int row = 0; row < rows; row++)
+		{
+			for (int col = 0; col < cols; col++)
+			{
+				//get the current room
+				final Room room = maze.getRoom(col, row);
+
+				//the walls in this room
+				byte value = 0;
+
+				if (room.hasWall(Wall.North))
+					value |= WALL_NORTH;
+				if (room.hasWall(Wall.South))
+					value |= WALL_SOUTH;
+				if (room.hasWall(Wall.East))
+					value |= WALL_EAST;
+				if (room.hasWall(Wall.West))
+					value |= WALL_WEST;
+
+				//store the walls
+				this.walls[getIndex(col, row)] = value;
+			}
+		}
+	}
+
+	/**
+	 * Get the number of columns
+	 * @return The total columns in the maze
+	 */
+	public int getCols()
+	{
+		return this.cols;
+	}
+
+	/**
+	 * Get the number of rows
+	 * @return The total rows in the maze
+	 */
+	public int getRows()
+	{
+		return this.rows;
+	}
+
+	/**
+	 * Get the array index of the specified location
+	 * @param col Column
+	 * @param row Row
+	 * @return The index of the room in our array
+	 */
+	public int getIndex(final int col, final int row)
+	{
+		return (row * cols) + col;
+	}
+
+	/**
+	 * Get the walls of the specified room
+	 * @param col Column
+	 * @param row Row
+	 * @return The bit flags of the walls in the room
+	 */
+	public int getWalls(final int col, final int row)
+	{
+		return getWalls(getIndex(col, row));
+	}
+
+	/**
+	 * Get the walls of the specified room
+	 * @param index The index of the room
+	 * @return The bit flags of the walls in the room
+	 */
+	public int getWalls(final int index)
+	{
+		return this.walls[index];
+	}
+
+	/**
+	 * Does the room have the specified wall?
+	 * @param col Column
+	 * @param row Row
+	 * @param wall The bit flag of the wall we are checking
+	 * @return true if the wall exists, false otherwise
+	 */
+	public boolean hasWall(final int col, final int row, final int wall)
+	{
+		return ((this.walls[getIndex(col, row)] & wall) != 0);
+	}
+
+	/**
+	 * Does the room have the specified wall?
+	 * @param index The index of the room
+	 * @param wall The bit flag of the wall we are checking
+	 * @return true if the wall exists, false otherwise
+	 */
+	public boolean hasWall(final int index, final int wall)
+	{
+		return ((this.walls[index] & wall) != 0);
+	}
+	
+	/**
+	 * Get the neighboring room in the specified direction
+	 * @param index The index of the current room
+	 * @param wall The bit flag of the direction to move
+	 * @return The index of the neighbor, NONE if there is a wall or we leave the maze
+	 */
+	public int getNeighbor(final int index, final int wall)
+	{
+		//if there is a wall we can't move this way
+		if (hasWall(index, wall))
+			return NONE;
+
+		//the location of the room
+		final int col = index % cols;
+		final int row = index / cols;
+
+		switch (wall)
+		{
+			case WALL_NORTH:
+				return (row > 0) ? index - cols : NONE;
+
+			case WALL_SOUTH:
+				return (row < rows - 1) ? index + cols : NONE;
+
+			case WALL_EAST:
+				return (col < cols - 1) ? index + 1 : NONE;
+
+			case WALL_WEST:
+				return (col > 0) ? index - 1 : NONE;
+
+			default:
+				return NONE;
+		}
+	}
+
+	/**
+	 * Calculate the distance from every room to the specified room using a breadth first search
+	 * @param index The index of the room we are measuring to
+	 * @return The number of rooms to move from each room to reach the specified room, NONE if it can't be reached
+	 */
+	public int[] getDistances(final int index)
+	{
+		//the distance of each room, the queue is stored in the same order the rooms are reached
+		final int[] distances = new int[walls.length];
+		final int[] queue = new int[walls.length];
+
+		//no rooms have been reached yet
+		for (int i = 0; i < distances.length; i++)
+		{
+			distances[i] = NONE;
+		}
+
+		//start at the specified room
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = index;
+		distances[index] = 0;
+
+		while (head < tail)
+		{
+			final int current = queue[head++];
+
+			//check each open side for a room we haven't reached
+			for (int wall = WALL_NORTH; wall <= WALL_WEST; wall <<= 1)
+			{
+				final int neighbor = getNeighbor(current, wall);
+
+				if (neighbor != NONE && distances[neighbor] == NONE)
+				{
+					distances[neighbor] = distances[current] + 1;
+					queue[tail++] = neighbor;
+				}
+			}
+		}
+
+		return distances;
+	}
+
+	/**
+	 * Get the bit flag for the wall
+	 * @param wall The wall
+	 * @return The bit flag representing the wall
+	 */
+	public static byte getFlag(final Wall wall)
+	{
+		switch (wall)
+		{
+			case North:
+				return WALL_NORTH;
+				
+			case South:
+				return WALL_SOUTH;
+				
+			case East:
+				return WALL_EAST;
+				
+			case West:
+			default:
+				return WALL_WEST;
+		}
+	}
+}
\ No newline at end of file
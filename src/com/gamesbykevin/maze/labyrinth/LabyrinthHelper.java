@@ -1,8 +1,6 @@
 package com.gamesbykevin.maze.labyrinth;
 
 import com.gamesbykevin.androidframework.anim.Animation;
-import com.gamesbykevin.androidframework.maze.Room;
-import com.gamesbykevin.androidframework.maze.Room.Wall;
 import com.gamesbykevin.androidframework.resources.Images;
 import com.gamesbykevin.maze.assets.Assets;
 import com.gamesbykevin.maze.labyrinth.Labyrinth.TileKey;
@@ -15,6 +13,10 @@ public final class LabyrinthHelper
 	private static final int ANIMATION_WIDTH_TOP_DOWN = 64;
 	private static final int ANIMATION_HEIGHT_TOP_DOWN = 64;
 	
+	//tile lookup tables indexed by the open sides of a room
+	private static final TileKey[] TILES_ISOMETRIC = createTiles(true);
+	private static final TileKey[] TILES_TOP_DOWN = createTiles(false);
+	
 	/**
 	 * Add the default animations
 	 * @param labyrinth Object we want to add the animations to
@@ -80,71 +82,82 @@ public final class LabyrinthHelper
 	}
 	
 	/**
-	 * 
-	 * @param labyrinth
-	 * @param room
+	 * Dispose the tile animations, so the road image can be recycled.<br>
+	 * The animations are created again by setupAnimations()
+	 * @param labyrinth Object we want to remove the animations from
 	 */
-	protected static void assignAnimation(final Labyrinth labyrinth, final Room room, final boolean isometric)
+	protected static void releaseAnimations(final Labyrinth labyrinth)
 	{
-		if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNSEW : TileKey.IsometricNSEW);
-		}
-		else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.North))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNWE : TileKey.IsometricNWE);
-		}
-		else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.West) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownSWE : TileKey.IsometricSWE);
-		}
-		else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNSE : TileKey.IsometricNSE);
-		}
-		else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.North) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNWS : TileKey.IsometricNWS);
-		}
-		else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.East))
+		for (TileKey key : TileKey.values())
 		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownWE : TileKey.IsometricWE);
-		}
-		else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.North))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNW : TileKey.IsometricNW);
-		}
-		else if (!room.hasWall(Wall.West) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownSW : TileKey.IsometricSW);
-		}
-		else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.North))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNE : TileKey.IsometricNE);
-		}
-		else if (!room.hasWall(Wall.East) && !room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownSE : TileKey.IsometricSE);
-		}
-		else if (!room.hasWall(Wall.South) && !room.hasWall(Wall.North))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownNS : TileKey.IsometricNS);
-		}
-		else if (!room.hasWall(Wall.North))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownN : TileKey.IsometricN);
-		}
-		else if (!room.hasWall(Wall.South))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownS : TileKey.IsometricS);
-		}
-		else if (!room.hasWall(Wall.West))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownW : TileKey.IsometricW);
-		}
-		else if (!room.hasWall(Wall.East))
-		{
-			labyrinth.getSpritesheet().setKey((!isometric) ? TileKey.TopDownE : TileKey.IsometricE);
+			final Animation animation = labyrinth.getSpritesheet().get(key);
+			
+			if (animation != null)
+				animation.dispose();
 		}
 	}
+	
+	/**
+	 * Assign the tile animation based on the walls of the room
+	 * @param labyrinth Object we want to assign the animation to
+	 * @param walls The bit flags of the walls in the room
+	 * @param isometric Are we rendering isometric?
+	 */
+	protected static void assignAnimation(final Labyrinth labyrinth, final int walls, final boolean isometric)
+	{
+		//get the tile for the open sides of the room
+		final TileKey key = getTileKey(walls, isometric);
+		
+		//a room with no open sides has no tile
+		if (key != null)
+			labyrinth.getSpritesheet().setKey(key);
+	}
+	
+	/**
+	 * Get the tile key based on the walls of the room
+	 * @param walls The bit flags of the walls in the room
+	 * @param isometric Are we rendering isometric?
+	 * @return The tile key for the open sides of the room, null if every wall exists
+	 */
+	protected static TileKey getTileKey(final int walls, final boolean isometric)
+	{
+		//the open sides are the walls that don't exist
+		final int open = (~walls) & LabyrinthGrid.WALL_ALL;
+		
+		return (isometric) ? TILES_ISOMETRIC[open] : TILES_TOP_DOWN[open];
+	}
+	
+	/**
+	 * Create the table of tiles indexed by the bit flags of the open sides of a room
+	 * @param isometric Are we creating the table for isometric?
+	 * @return Array of 16 tile keys, index 0 (no open sides) will be null
+	 */
+	private static TileKey[] createTiles(final boolean isometric)
+	{
+		//the bit flags for each open side
+		final int n = LabyrinthGrid.WALL_NORTH;
+		final int s = LabyrinthGrid.WALL_SOUTH;
+		final int e = LabyrinthGrid.WALL_EAST;
+		final int w = LabyrinthGrid.WALL_WEST;
+		
+		final TileKey[] tiles = new TileKey[LabyrinthGrid.WALL_ALL + 1];
+		
+		tiles[n | s | e | w] = (!isometric) ? TileKey.TopDownNSEW : TileKey.IsometricNSEW;
+		tiles[n | e | w] = (!isometric) ? TileKey.TopDownNWE : TileKey.IsometricNWE;
+		tiles[s | e | w] = (!isometric) ? TileKey.TopDownSWE : TileKey.IsometricSWE;
+		tiles[n | s | e] = (!isometric) ? TileKey.TopDownNSE : TileKey.IsometricNSE;
+		tiles[n | s | w] = (!isometric) ? TileKey.TopDownNWS : TileKey.IsometricNWS;
+		tiles[e | w] = (!isometric) ? TileKey.TopDownWE : TileKey.IsometricWE;
+		tiles[n | w] = (!isometric) ? TileKey.TopDownNW : TileKey.IsometricNW;
+		tiles[s | w] = (!isometric) ? TileKey.TopDownSW : TileKey.IsometricSW;
+		tiles[n | e] = (!isometric) ? TileKey.TopDownNE : TileKey.IsometricNE;
+		tiles[s | e] = (!isometric) ? TileKey.TopDownSE : TileKey.IsometricSE;
+		tiles[n | s] = (!isometric) ? TileKey.TopDownNS : TileKey.IsometricNS;
+		tiles[n] = (!isometric) ? TileKey.TopDownN : TileKey.IsometricN;
+		tiles[s] = (!isometric) ? TileKey.TopDownS : TileKey.IsometricS;
+		tiles[w] = (!isometric) ? TileKey.TopDownW : TileKey.IsometricW;
+		tiles[e] = (!isometric) ? TileKey.TopDownE : TileKey.IsometricE;
+		
+		return tiles;
+	}
 }
\ No newline at end of file
@@ -56,6 +56,13 @@ public class Levels implements IGame
     //the description to display
     private String description = "";
     
+    //the text of each level number on the current page, and the page description
+    private final String[] numbers = new String[LEVELS_PER_PAGE];
+    private String pageDescription;
+    
+    //the page the text was created for, -1 when the text needs to be created again
+    private int textPageIndex = -1;
+    
     //our storage object used to save data
     private ScoreCard scorecard;
     
@@ -68,6 +75,15 @@ public class Levels implements IGame
         this.scorecard = new ScoreCard(game, game.getScreen().getPanel().getActivity());
     	
     	//create buttons
+    	createButtons();
+    }
+    
+    /**
+     * Create the buttons from the game images.<br>
+     * The buttons are created with the levels, this is only needed after releaseButtons()
+     */
+    public final void createButtons()
+    {
     	levelOpen = new Button(Images.getImage(Assets.ImageGameKey.LevelOpen));
     	levelOpen.setDescription(0, "");
     	levelOpen.setWidth(DIMENSION);
@@ -106,6 +122,24 @@ public class Levels implements IGame
     public void setDescription(final String description)
     {
     	this.description = description;
+    	
+    	//the page description will need to be created again
+    	this.textPageIndex = -1;
+    }
+    
+    /**
+     * Create the level numbers and page description for the current page.<br>
+     * This is only done when the page changes, so rendering doesn't create text every frame
+     */
+    private void updateText()
+    {
+    	for (int i = 0; i < numbers.length; i++)
+    	{
+    		numbers[i] = Integer.toString((getPageIndex() * LEVELS_PER_PAGE) + i + 1);
+    	}
+    	
+    	this.pageDescription = description + " - " + "Page: " + (getPageIndex() + 1) + " of " + PAGES;
+    	this.textPageIndex = getPageIndex();
     }
     
     /**
@@ -246,8 +280,11 @@ public class Levels implements IGame
 		return this.selected;
 	}
 	
-	@Override
-	public void dispose()
+	/**
+	 * Dispose the buttons, so the game images can be recycled.<br>
+	 * The score card and the selected level are kept
+	 */
+	public void releaseButtons()
 	{
 		if (levelOpen != null)
 		{
@@ -272,6 +309,12 @@ public class Levels implements IGame
 			pagePrevious.dispose();
 			pagePrevious = null;
 		}
+	}
+	
+	@Override
+	public void dispose()
+	{
+		releaseButtons();
 		
         if (scorecard != null)
         {
@@ -289,6 +332,10 @@ public class Levels implements IGame
 			//the size of the levels
 			final int size = game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE);
 			
+			//create the text if the page has changed
+			if (textPageIndex != getPageIndex())
+				updateText();
+			
 			//the level number
 			int count = 1;
 			
@@ -319,7 +366,7 @@ public class Levels implements IGame
 					}
 					
 					//set the description
-					button.setDescription(0, "" + levelNumber);
+					button.setDescription(0, numbers[count - 1]);
 					
 					//position the button
 					button.setX(x);
@@ -342,8 +389,7 @@ public class Levels implements IGame
 			
 			//draw page # and description
 			canvas.drawText(
-				description + " - " + 
-				"Page: " + (getPageIndex() + 1) + " of " + PAGES,
+				pageDescription,
 				(int)(GamePanel.WIDTH * .33),
 				GamePanel.HEIGHT - PADDING, 
 				game.getPaint()
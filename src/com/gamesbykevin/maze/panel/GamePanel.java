@@ -53,6 +53,9 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
     //did we calculate the screen ratio yet?
     private boolean ratio = false;
     
+    //the render thread holds this while drawing, the update thread holds it to change what is drawn
+    private final Object renderLock = new Object();
+    
     /**
      * Create a new game panel
      * @param activity Our main activity reference
@@ -122,7 +125,7 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
      * If the main thread does not exist, it will be created
      * @return The main game thread
      */
-    private MainThread getThread()
+    public MainThread getThread()
     {
     	return this.thread;
     }
@@ -271,6 +274,13 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
 	                    	performClick();
 	                	}
 	                	break;
+	                	
+	                case MotionEvent.ACTION_POINTER_DOWN:
+	                	
+	                	//if debugging, a three finger touch will show/hide the frame times
+	                	if (MainThread.DEBUG && event.getPointerCount() == 3 && getThread() != null)
+	                		getThread().setOverlay(!getThread().hasOverlay());
+	                	break;
                 }
                 
                 //update the screen/game etc.. with the specified motion events
@@ -295,8 +305,8 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
     {
         try
         {
-            //load assets
-            Assets.load(getActivity());
+            //load the menu assets
+            Assets.loadMenu(getActivity());
             
             //create if null
             if (RANDOM == null)
@@ -347,8 +357,9 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
             //stop all audio while paused
             Audio.stop();
             
-            //flag the thread as paused
-            getThread().setPause(false);
+            //flag the thread as paused, it will wait until the surface is created again
+            if (getThread() != null)
+            	getThread().setPause(true);
             
             //set the state
             getScreen().setState(State.Paused);
@@ -377,10 +388,7 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
             //make sure the screen is created first before the thread starts
             if (getScreen() == null)
             {
-                //load all assets
-                Assets.load(getActivity());
-
-                //create new screen manager
+                //create new screen manager, the menu assets were loaded when the surface was created
                 this.screen = new ScreenManager(this);
             }
             else
@@ -394,6 +402,17 @@ public class GamePanel extends SurfaceView implements SurfaceHolder.Callback, Di
         }
     }
     
+    /**
+     * Get the render lock.<br>
+     * The render thread holds this lock while drawing a frame.<br>
+     * The update thread only needs it to remove or replace something the render thread draws (e.g. the pre-rendered maze)
+     * @return The object to synchronize on
+     */
+    public Object getRenderLock()
+    {
+    	return this.renderLock;
+    }
+    
     /**
      * Get the x scale factor for the motion event
      * @return The x ratio of the user's width compared to the default width
@@ -0,0 +1,61 @@
+package com.gamesbykevin.maze.player;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Plan the shortest path before moving, checking the junctions closest to the goal first.
+ * @author GOD
+ */
+public final class AStarStrategy implements SolverStrategy
+{
+	//the solver used to plan the path
+	private final PathSolver solver;
+	
+	//the planned path from start to finish
+	private int[] path;
+	
+	//the current step on the path
+	private int step = 0;
+	
+	public AStarStrategy()
+	{
+		this.solver = new PathSolver();
+	}
+	
+	@Override
+	public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish)
+	{
+		//plan the path
+		this.path = solver.solve(graph, grid, start, finish);
+		
+		//if there is no path, stay where we are
+		if (path == null)
+			path = new int[] {start};
+		
+		//we are at the first step
+		this.step = 0;
+	}
+	
+	@Override
+	public int next(final LabyrinthGrid grid, final int current)
+	{
+		//move on to the next step, unless we are at the end
+		if (step < path.length - 1)
+			step++;
+		
+		return path[step];
+	}
+	
+	@Override
+	public long getMemory()
+	{
+		return solver.getMemory() + ((path == null) ? 0 : path.length * 4);
+	}
+	
+	@Override
+	public String getName()
+	{
+		return "A*";
+	}
+}
\ No newline at end of file
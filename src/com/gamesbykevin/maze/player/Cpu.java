@@ -1,26 +1,41 @@
 package com.gamesbykevin.maze.player;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import com.gamesbykevin.androidframework.base.Cell;
-import com.gamesbykevin.androidframework.maze.Room;
-import com.gamesbykevin.androidframework.maze.Room.Wall;
+import com.gamesbykevin.androidframework.anim.Animation;
 import com.gamesbykevin.maze.game.Game;
-import com.gamesbykevin.maze.panel.GamePanel;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+import com.gamesbykevin.maze.thread.MainThread;
 
 import android.graphics.Canvas;
 
 public class Cpu extends Player
 {
-	//optional directions
-	private List<Wall> options;
+	/**
+	 * Each strategy the computer can use to solve the maze
+	 */
+	public enum Strategy
+	{
+		DepthFirst, WallFollower, Tremaux, DeadEndFilling, AStar
+	}
+	
+	/**
+	 * The strategy used until one is selected
+	 */
+	public static final Strategy STRATEGY_DEFAULT = Strategy.DepthFirst;
+	
+	//the strategy used to solve the maze
+	private SolverStrategy strategy;
+	
+	//the cost of solving the current maze
+	private final SolverMetrics metrics;
+	
+	//notified when the maze is solved
+	private SolverMetrics.Listener listener;
 	
-	//our path in the maze
-	private List<Cell> path;
+	//has the strategy planned for the current maze
+	private boolean planned = false;
 	
-	//all of the locations the cpu has visited
-	private List<Cell> visited;
+	//have the metrics been reported for the current maze
+	private boolean reported = false;
 	
 	public static final double VELOCITY = .1;
 	
@@ -34,29 +49,36 @@ public class Cpu extends Player
 		//set the velocity
 		super.setVelocityLimit(VELOCITY);
 		
-		//create new list of options
-		this.options = new ArrayList<Wall>();
+		//create our metrics
+		this.metrics = new SolverMetrics();
 		
-		//create list for our path
-		this.path = new ArrayList<Cell>();
+		//assign the default strategy
+		setStrategy(STRATEGY_DEFAULT);
 		
-		//create list for the visited
-		this.visited = new ArrayList<Cell>();
+		//if debugging display the cost of each solve
+		if (MainThread.DEBUG)
+		{
+			setListener(new SolverMetrics.Listener()
+			{
+				@Override
+				public void onSolved(final SolverStrategy strategy, final SolverMetrics metrics)
+				{
+					System.out.println(
+						strategy.getName() + 
+						" steps " + metrics.getSteps() + 
+						", planning " + (metrics.getPlanningTime() / Animation.NANO_SECONDS_PER_MILLISECOND) + "ms" + 
+						", memory " + metrics.getMemory() + " bytes"
+					);
+				}
+			});
+		}
 	}
 	
 	@Override
 	public void dispose()
 	{
-		if (this.path != null)
-			this.path.clear();
-		if (this.visited != null)
-			this.visited.clear();
-		if (this.options != null)
-			this.options.clear();
-		
-		this.path = null;
-		this.visited = null;
-		this.options = null;
+		this.strategy = null;
+		this.listener = null;
 		
 		super.dispose();
 	}
@@ -66,16 +88,95 @@ public class Cpu extends Player
 	{
 		super.reset();
 		
-		//clear our lists
-		options.clear();
-		path.clear();
-		visited.clear();
+		//the strategy will plan again for the maze
+		planned = false;
+		reported = false;
+		metrics.reset();
 		
 		//mark all rooms in the maze unvisited (if exist)
 		if (getGame().getLabyrinth() != null)
 			getGame().getLabyrinth().markUnvisited();
 	}
 	
+	/**
+	 * Assign the strategy used to solve the maze
+	 * @param key The strategy we want to use
+	 */
+	public void setStrategy(final Strategy key)
+	{
+		this.strategy = createStrategy(key);
+		
+		//the new strategy will need to plan
+		this.planned = false;
+	}
+	
+	/**
+	 * Get the strategy of the option selected by the user
+	 * @param index The index of the opponent option, in the same order as Strategy
+	 * @return The strategy for the index, the default if the index is not valid
+	 */
+	public static Strategy getStrategy(final int index)
+	{
+		if (index < 0 || index >= Strategy.values().length)
+			return STRATEGY_DEFAULT;
+		
+		return Strategy.values()[index];
+	}
+	
+	/**
+	 * Create the strategy used to solve the maze
+	 * @param key The strategy we want to use
+	 * @return A new strategy ready to plan for a maze
+	 */
+	public static SolverStrategy createStrategy(final Strategy key)
+	{
+		switch (key)
+		{
+			case DepthFirst:
+			default:
+				return new DepthFirstStrategy();
+				
+			case WallFollower:
+				return new WallFollowerStrategy();
+				
+			case Tremaux:
+				return new TremauxStrategy();
+				
+			case DeadEndFilling:
+				return new DeadEndFillingStrategy();
+				
+			case AStar:
+				return new AStarStrategy();
+		}
+	}
+	
+	/**
+	 * Get the strategy
+	 * @return The strategy used to solve the maze
+	 */
+	public SolverStrategy getStrategy()
+	{
+		return this.strategy;
+	}
+	
+	/**
+	 * Get the metrics
+	 * @return The cost of solving the current maze
+	 */
+	public SolverMetrics getMetrics()
+	{
+		return this.metrics;
+	}
+	
+	/**
+	 * Assign the listener notified when the maze is solved
+	 * @param listener The listener, null if we don't want to be notified
+	 */
+	public void setListener(final SolverMetrics.Listener listener)
+	{
+		this.listener = listener;
+	}
+	
 	@Override
 	public void update() throws Exception
 	{
@@ -91,112 +192,53 @@ public class Cpu extends Player
 		{
 			//we have solved the maze if at the finish
 			if (super.hasGoal())
+			{
+				//report the cost of solving the maze once
+				if (!reported)
+				{
+					reported = true;
+					
+					if (listener != null)
+						listener.onSolved(strategy, metrics);
+				}
+				
 				return;
+			}
 			
-			//clear our optional list
-			options.clear();
-			
-    		//get the current room in the maze
-    		Room room = getGame().getLabyrinth().getMaze().getRoom((int)getCol(), (int)getRow());
+    		//the packed walls of the maze
+    		final LabyrinthGrid grid = getGame().getLabyrinth().getGrid();
     		
-    		//determine which directions are available, and we haven't visited
-    		if (!room.hasWall(Wall.East) && !hasVisited(getCol() + 1, getRow()))
-    			options.add(Wall.East);
-    		if (!room.hasWall(Wall.West) && !hasVisited(getCol() - 1, getRow()))
-    			options.add(Wall.West);
-    		if (!room.hasWall(Wall.North) && !hasVisited(getCol(), getRow() - 1))
-    			options.add(Wall.North);
-    		if (!room.hasWall(Wall.South) && !hasVisited(getCol(), getRow() + 1))
-    			options.add(Wall.South);
+    		//the room we are currently in
+    		final int current = grid.getIndex((int)getCol(), (int)getRow());
     		
-    		//if we still don't have any options we will have to back track
-    		if (options.isEmpty())
-    		{
-    			//location is no good, so we remove it
-    			path.remove(path.size() - 1);
-    			
-				//set the target to the previous location
-				super.setTarget(path.get(path.size() - 1).getCol(), path.get(path.size() - 1).getRow());
-    		}
-    		else
+    		//track the time spent planning
+    		final long time = System.nanoTime();
+    		
+    		//plan for the maze if we haven't already
+    		if (!planned)
     		{
-	    		//store the current location
-				int col = (int)getCol();
-				int row = (int)getRow();
-				
-				//pick a random direction available
-				switch (options.get(GamePanel.RANDOM.nextInt(options.size())))
-				{
-	    			case North:
-	    				row--;
-	    				break;
-	    				
-	    			case South:
-	    				row++;
-	    				break;
-	    				
-	    			case East:
-	    				col++;
-	    				break;
-	    				
-	    			case West:
-	    				col--;
-	    				break;
-				}
-				
-				/**
-				 * If the path is empty we are just starting and need to mark the current location
-				 */
-				if (path.isEmpty())
-					markTarget((int)getCol(), (int)getRow());
-				
-				markTarget(col, row);
+    			strategy.reset(
+    				grid, 
+    				getGame().getLabyrinth().getGraph(), 
+    				current, 
+    				grid.getIndex(getGame().getLabyrinth().getMaze().getFinishCol(), getGame().getLabyrinth().getMaze().getFinishRow())
+    			);
+    			planned = true;
     		}
+    		
+    		//choose the next room to move to
+    		final int next = strategy.next(grid, current);
+    		
+    		//update the metrics
+    		metrics.addPlanningTime(System.nanoTime() - time);
+    		metrics.updateMemory(strategy.getMemory());
+    		metrics.increaseSteps();
+    		
+    		//set the target
+    		super.setTarget(next % grid.getCols(), next / grid.getCols());
 		}
 	}
 	
-	/**
-	 * Mark the target<br>
-	 * 
-	 * 1) Set the target<br>
-	 * 2) Add the location to our current path<br>
-	 * 3) Mark the room visited in the maze<br>
-	 * @param col Column
-	 * @param row Row
-	 */
-	private void markTarget(final int col, final int row)
-	{
-		//set the target
-		super.setTarget(col, row);
-		
-		//also add the new location to our path
-		path.add(new Cell(col, row));
-		
-		//also mark the location as visited (if we haven't already)
-		if (!hasVisited(col, row))
-			visited.add(new Cell((int)col, (int)row));
-	}
-	
-	/**
-	 * Have we visited the specified location?
-	 * @param col Column
-	 * @param row Row
-	 * @return true if the player visited the location, false otherwise
-	 */
-	private boolean hasVisited(final double col, final double row)
-	{
-		//check our list to see if we have visited
-		for (Cell cell : visited)
-		{
-			//if we have the location, return true
-			if (cell.hasLocation(col, row))
-				return true;
-		}
-		
-		//return false because we did not find the location
-		return false;
-	}
-	
 	public void setVisible(final boolean visible)
 	{
 		this.visible = visible;
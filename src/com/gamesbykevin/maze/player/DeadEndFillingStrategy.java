@@ -0,0 +1,176 @@
+package com.gamesbykevin.maze.player;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Before moving, fill in every dead end until only the path to the goal is left.<br>
+ * The filling is done on the junction graph so each corridor is filled in a single step.<br>
+ * Then we simply walk the rooms that were not filled.
+ * @author GOD
+ */
+public final class DeadEndFillingStrategy implements SolverStrategy
+{
+	//the number of edges of each node that are not filled
+	private int[] open;
+	
+	//the nodes that were filled
+	private final BitSet filled;
+	
+	//the dead ends waiting to be filled
+	private int[] queue;
+	
+	//the rooms that were not filled from start to finish
+	private int[] path;
+	
+	//the number of rooms in the path
+	private int length = 0;
+	
+	//the current step on the path
+	private int step = 0;
+	
+	public DeadEndFillingStrategy()
+	{
+		this.open = new int[0];
+		this.filled = new BitSet();
+		this.queue = new int[0];
+		this.path = new int[0];
+	}
+	
+	@Override
+	public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish)
+	{
+		//the number of nodes in the graph
+		final int total = graph.getNodeCount();
+		
+		//make sure our arrays are large enough
+		if (open.length < total)
+		{
+			open = new int[total];
+			queue = new int[total];
+		}
+		
+		filled.clear();
+		
+		//the nodes of the start and finish
+		final int source = graph.getNode(start);
+		final int target = graph.getNode(finish);
+		
+		int head = 0;
+		int tail = 0;
+		
+		//count the edges of each node, and find the dead ends
+		for (int node = 0; node < total; node++)
+		{
+			open[node] = graph.getDegree(node);
+			
+			//the start and finish are never filled
+			if (open[node] == 1 && node != source && node != target)
+				queue[tail++] = node;
+		}
+		
+		//fill each dead end along with its corridor, which may create a new dead end
+		while (head < tail)
+		{
+			final int node = queue[head++];
+			
+			filled.set(node);
+			
+			for (int direction : SolverHelper.DIRECTIONS)
+			{
+				final int edge = graph.getEdge(node, direction);
+				
+				if (edge == LabyrinthGraph.NONE || filled.get(graph.getTarget(edge)))
+					continue;
+				
+				final int neighbor = graph.getTarget(edge);
+				
+				//the neighbor has one less open edge
+				open[neighbor]--;
+				
+				//if the neighbor is now a dead end it will be filled as well
+				if (open[neighbor] == 1 && neighbor != source && neighbor != target)
+					queue[tail++] = neighbor;
+			}
+		}
+		
+		//walk the corridors that were not filled
+		this.length = 0;
+		add(start);
+		
+		int node = source;
+		int previous = LabyrinthGraph.NONE;
+		
+		//each node is passed at most once
+		for (int count = 0; node != LabyrinthGraph.NONE && node != target && count < total; count++)
+		{
+			//the edge that wasn't filled and we didn't come from
+			int next = LabyrinthGraph.NONE;
+			
+			for (int direction : SolverHelper.DIRECTIONS)
+			{
+				final int edge = graph.getEdge(node, direction);
+				
+				if (edge != LabyrinthGraph.NONE && graph.getTarget(edge) != previous && !filled.get(graph.getTarget(edge)))
+				{
+					next = edge;
+					break;
+				}
+			}
+			
+			//there is nowhere to go
+			if (next == LabyrinthGraph.NONE)
+				break;
+			
+			//add each room along the corridor
+			for (int index = 0; index < graph.getLength(next); index++)
+			{
+				add(graph.getCorridorRoom(next, index));
+			}
+			
+			previous = node;
+			node = graph.getTarget(next);
+		}
+		
+		//we are at the first step
+		this.step = 0;
+	}
+	
+	/**
+	 * Add the room to the end of the path
+	 * @param index The index of the room
+	 */
+	private void add(final int index)
+	{
+		//make sure we have room
+		if (length == path.length)
+			path = Arrays.copyOf(path, Math.max(16, length * 2));
+		
+		path[length++] = index;
+	}
+	
+	@Override
+	public int next(final LabyrinthGrid grid, final int current)
+	{
+		//move on to the next step, unless we are at the end
+		if (step < length - 1)
+			step++;
+		
+		return path[step];
+	}
+	
+	@Override
+	public long getMemory()
+	{
+		return (open.length * 4) + (filled.size() / 8) + (queue.length * 4) + (path.length * 4);
+	}
+	
+	@Override
+	public String getName()
+	{
+		return "Dead End Filling";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.gamesbykevin.maze.player;
+
+import java.util.BitSet;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+import com.gamesbykevin.maze.panel.GamePanel;
+
+/**
+ * Pick a random room we haven't visited, and back track when there are none.<br>
+ * This is how the computer has always solved the maze.
+ * @author GOD
+ */
+public final class DepthFirstStrategy implements SolverStrategy
+{
+	//all of the rooms we have visited
+	private BitSet visited;
+	
+	//our path in the maze, stored as a stack
+	private int[] path;
+	
+	//the number of rooms in our path
+	private int size = 0;
+	
+	//the rooms we can choose from
+	private final int[] options;
+	
+	public DepthFirstStrategy()
+	{
+		this.visited = new BitSet();
+		this.path = new int[0];
+		this.options = new int[SolverHelper.DIRECTIONS.length];
+	}
+	
+	@Override
+	public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish)
+	{
+		//make sure our path can hold every room in the maze
+		if (path.length < grid.getCols() * grid.getRows())
+			path = new int[grid.getCols() * grid.getRows()];
+		
+		//make sure we can mark every room, so the bits won't grow while we move
+		if (visited.size() < grid.getCols() * grid.getRows())
+			visited = new BitSet(grid.getCols() * grid.getRows());
+		
+		//we start at the start
+		visited.clear();
+		visited.set(start);
+		path[0] = start;
+		size = 1;
+	}
+	
+	@Override
+	public int next(final LabyrinthGrid grid, final int current)
+	{
+		//the number of rooms to choose from
+		int count = 0;
+		
+		//determine which directions are available, and we haven't visited
+		for (int direction : SolverHelper.DIRECTIONS)
+		{
+			final int neighbor = SolverHelper.getNeighbor(grid, current, direction);
+			
+			if (neighbor != SolverHelper.NONE && !visited.get(neighbor))
+				options[count++] = neighbor;
+		}
+		
+		//if we don't have any options we will have to back track
+		if (count == 0)
+		{
+			//location is no good, so we remove it
+			size--;
+			
+			//go back to the previous location
+			return path[size - 1];
+		}
+		
+		//pick a random room available
+		final int neighbor = options[GamePanel.RANDOM.nextInt(count)];
+		
+		//add it to our path and mark visited
+		path[size++] = neighbor;
+		visited.set(neighbor);
+		
+		return neighbor;
+	}
+	
+	@Override
+	public long getMemory()
+	{
+		return (visited.size() / 8) + (path.length * 4) + (options.length * 4);
+	}
+	
+	@Override
+	public String getName()
+	{
+		return "Depth First";
+	}
+}
\ No newline at end of file
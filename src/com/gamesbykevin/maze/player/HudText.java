@@ -0,0 +1,194 @@
+package com.gamesbykevin.maze.player;
+
+/**
+ * A line of heads up display text kept in a reusable char buffer.<br>
+ * The characters are only rewritten when the displayed value changes, and nothing is allocated after creation.<br>
+ * The text is rendered with Canvas.drawText(char[], int, int, float, float, Paint).
+ * @author GOD
+ */
+public final class HudText
+{
+	/**
+	 * The most characters a line can display
+	 */
+	public static final int CAPACITY = 32;
+
+	/**
+	 * What is currently displayed
+	 */
+	private static final int TYPE_TEXT = 0;
+	private static final int TYPE_TIME = 1;
+	private static final int TYPE_NUMBER = 2;
+
+	//the characters to display
+	private final char[] chars;
+
+	//the number of characters to display
+	private int length = 0;
+
+	//the text before the value, and the value displayed, so we know when it changes
+	private String prefix = "";
+	private long value = 0;
+	private int type = TYPE_TEXT;
+
+	public HudText()
+	{
+		this.chars = new char[CAPACITY];
+	}
+
+	/**
+	 * Display the text
+	 * @param text The text to display
+	 */
+	public void setText(final String text)
+	{
+		//if nothing changed there is nothing to write
+		if (type == TYPE_TEXT && prefix.equals(text))
+			return;
+
+		this.type = TYPE_TEXT;
+		this.prefix = text;
+		this.length = 0;
+
+		append(text);
+	}
+
+	/**
+	 * Display the prefix followed by the time formatted as minutes, seconds and milliseconds (mm:ss.SSS)
+	 * @param prefix The text before the time
+	 * @param milliseconds The time to display
+	 */
+	public void setTime(final String prefix, final long milliseconds)
+	{
+		//if nothing changed there is nothing to write
+		if (type == TYPE_TIME && value == milliseconds && this.prefix.equals(prefix))
+			return;
+
+		this.type = TYPE_TIME;
+		this.prefix = prefix;
+		this.value = milliseconds;
+		this.length = 0;
+
+		append(prefix);
+
+		//the minutes wrap after an hour, the same as the time format
+		append((milliseconds / 60000) % 60, 2);
+		append(':');
+		append((milliseconds / 1000) % 60, 2);
+		append('.');
+		append(milliseconds % 1000, 3);
+	}
+
+	/**
+	 * Display the prefix followed by the number
+	 * @param prefix The text before the number
+	 * @param number The number to display
+	 */
+	public void setNumber(final String prefix, final long number)
+	{
+		//if nothing changed there is nothing to write
+		if (type == TYPE_NUMBER && value == number && this.prefix.equals(prefix))
+			return;
+
+		this.type = TYPE_NUMBER;
+		this.prefix = prefix;
+		this.value = number;
+		this.length = 0;
+
+		append(prefix);
+
+		if (number < 0)
+		{
+			append('-');
+			append(-number, 1);
+		}
+		else
+		{
+			append(number, 1);
+		}
+	}
+
+	/**
+	 * Copy the text of another line
+	 * @param text The line to copy
+	 */
+	public void copy(final HudText text)
+	{
+		System.arraycopy(text.chars, 0, this.chars, 0, text.length);
+
+		this.length = text.length;
+		this.prefix = text.prefix;
+		this.value = text.value;
+		this.type = text.type;
+	}
+
+	/**
+	 * Add the text to the end of the buffer
+	 * @param text The text to add
+	 */
+	private void append(final String text)
+	{
+		final int count = Math.min(text.length(), CAPACITY - length);
+
+		text.getChars(0, count, chars, length);
+
+		length += count;
+	}
+
+	/**
+	 * Add the character to the end of the buffer, if there is room
+	 * @param character The character to add
+	 */
+	private void append(final char character)
+	{
+		if (length < CAPACITY)
+			chars[length++] = character;
+	}
+
+	/**
+	 * Add the digits of the number to the end of the buffer
+	 * @param number The number to add, must not be negative
+	 * @param digits The fewest digits to write, leading zeros are added
+	 */
+	private void append(final long number, final int digits)
+	{
+		//count the digits of the number
+		int count = 1;
+
+		for (long remaining = number / 10; remaining > 0; remaining /= 10)
+		{
+			count++;
+		}
+
+		count = Math.min(Math.max(count, digits), CAPACITY - length);
+
+		//write the digits from the last to the first
+		long remaining = number;
+
+		for (int i = length + count - 1; i >= length; i--)
+		{
+			chars[i] = (char)('0' + (remaining % 10));
+			remaining /= 10;
+		}
+
+		length += count;
+	}
+
+	/**
+	 * Get the characters
+	 * @return The buffer containing the text, only the first getLength() characters are displayed
+	 */
+	public char[] getChars()
+	{
+		return this.chars;
+	}
+
+	/**
+	 * Get the length
+	 * @return The number of characters to display
+	 */
+	public int getLength()
+	{
+		return this.length;
+	}
+}
\ No newline at end of file
@@ -1,33 +1,28 @@
 package com.gamesbykevin.maze.player;
 
-import com.gamesbykevin.androidframework.maze.Room;
-import com.gamesbykevin.androidframework.maze.Room.Wall;
 import com.gamesbykevin.androidframework.resources.Audio;
 import com.gamesbykevin.androidframework.resources.Font;
-import com.gamesbykevin.androidframework.text.TimeFormat;
 import com.gamesbykevin.maze.assets.Assets;
 import com.gamesbykevin.maze.game.Game;
+import com.gamesbykevin.maze.game.GameSnapshot;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
 import com.gamesbykevin.maze.panel.GamePanel;
-import com.gamesbykevin.maze.scorecard.Score;
+import com.gamesbykevin.maze.scorecard.ScoreCard;
 import com.gamesbykevin.maze.screen.OptionsScreen;
 import com.gamesbykevin.maze.screen.ScreenManager.State;
+import com.gamesbykevin.maze.thread.GameClock;
 import com.gamesbykevin.maze.thread.MainThread;
 
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class Human extends Player
 {
     //track each button if pressed
     private boolean pressedUp = false, pressedDown = false, pressedRight = false, pressedLeft = false;
     
-    //our temporary options list
-    private List<Wall> options;
-    
 	//track the time
 	private long time;
 	
@@ -41,15 +36,36 @@ public class Human extends Player
 	private static final int TIME_X = GamePanel.WIDTH - 195;
 	private static final int TIME_Y = 25;
 	
+	//the text displayed before each value
+	private static final String PREFIX_TIME = "Time: ";
+	private static final String PREFIX_BEST = "Best: ";
+	private static final String PREFIX_DISTANCE = "Goal: ";
+	private static final String BEST_NONE = "Best: None";
+	
 	//time description, and personal best to render to the user
-	private String timeDescription = "";
-	private String bestDescription = "";
+	private final HudText timeDescription = new HudText();
+	private final HudText bestDescription = new HudText();
+	
+	//the rooms remaining to reach the goal
+	private final HudText distanceDescription = new HudText();
 	
 	//paint object to draw text
 	private Paint paint;
 	
-	//steps to solve the maze
-	private List<Location> steps;
+	//the rooms on the path to solve the maze
+	private int[] path;
+	
+	//the current step on the path
+	private int step;
+	
+	//the solver used to find the path
+	private final PathSolver solver;
+	
+	//the corridor we are walking, NONE if we will stop at the next room
+	private int corridor = LabyrinthGraph.NONE;
+	
+	//the current step along the corridor
+	private int corridorStep = 0;
 	
 	public Human(final Game game)
 	{
@@ -60,6 +76,9 @@ public class Human extends Player
         paint.setColor(Color.WHITE);
         paint.setTextSize(16f);
         paint.setTypeface(Font.getFont(Assets.FontGameKey.Default));
+        
+        //create our solver
+        this.solver = new PathSolver();
 	}
 	
 	@Override
@@ -75,13 +94,19 @@ public class Human extends Player
 	{
 		super.reset();
 		
-		//remove any existing steps
-		if (this.steps != null)
-			this.steps.clear();
+		//remove any existing path
+		setPath(null);
+		
+		//we aren't walking a corridor
+		this.corridor = LabyrinthGraph.NONE;
+		this.corridorStep = 0;
 		
 		//reset our messages
-		this.timeDescription = "";
-		this.bestDescription = "";
+		this.timeDescription.setText("");
+		this.bestDescription.setText("");
+		
+		//display the rooms remaining from the start
+		updateDistance();
 		
 		//stop the time and reset time to 0
 		stopTimer();
@@ -101,7 +126,7 @@ public class Human extends Player
     	if (stop)
     	{
     		//store the current time
-    		previous = System.currentTimeMillis();
+    		previous = GameClock.currentTimeMillis();
     		
     		//flag false
     		stop = false;
@@ -122,7 +147,7 @@ public class Human extends Player
     	//if we are debugging, run ai component
     	if (MainThread.DEBUG)
     	{
-    		PlayerHelper.updateAI(this, this.steps);
+    		PlayerHelper.updateAI(this);
     	}
     	
 		//if the player is at their target, determine if we need to move them again
@@ -131,92 +156,43 @@ public class Human extends Player
 			//make sure we previously had velocity so we can determine the previous location
 			if (dx != 0 || dy != 0)
 			{
-				//create new list if null
-				if (options == null)
-					options = new ArrayList<Wall>();
-				
-				//make sure list is empty
-				options.clear();
-				
-				//get the current room
-				final Room room = super.getGame().getLabyrinth().getMaze().getRoom((int)getCol(), (int)getRow());
-				
 				//flag true that the human visited this room
 				if (super.isHuman())
-					room.setVisited(true);
+					super.getGame().getLabyrinth().markVisited((int)getCol(), (int)getRow());
 				
-				if (dx < 0)
-				{
-					//if the wall does not exist add to the list of available options
-					if (!room.hasWall(Wall.West))
-						options.add(Wall.West);
-					if (!room.hasWall(Wall.South))
-						options.add(Wall.South);
-					if (!room.hasWall(Wall.North))
-						options.add(Wall.North);
-				}
-				else if (dx > 0)
-				{
-					//if the wall does not exist add to the list of available options
-					if (!room.hasWall(Wall.East))
-						options.add(Wall.East);
-					if (!room.hasWall(Wall.South))
-						options.add(Wall.South);
-					if (!room.hasWall(Wall.North))
-						options.add(Wall.North);
-				}
-				else if (dy < 0)
-				{
-					//if the wall does not exist add to the list of available options
-					if (!room.hasWall(Wall.East))
-						options.add(Wall.East);
-					if (!room.hasWall(Wall.West))
-						options.add(Wall.West);
-					if (!room.hasWall(Wall.North))
-						options.add(Wall.North);
-				}
-				else if (dy > 0)
-				{
-					//if the wall does not exist add to the list of available options
-					if (!room.hasWall(Wall.East))
-						options.add(Wall.East);
-					if (!room.hasWall(Wall.West))
-						options.add(Wall.West);
-					if (!room.hasWall(Wall.South))
-						options.add(Wall.South);
-				}
+				//we are in a new room, update the rooms remaining
+				updateDistance();
 				
-				//if there is only 1 way to go, we will continue to move the player to the next location
-				if (options.size() == 1)
+				//if we are walking a corridor, there is only 1 way to go so continue to the next room
+				if (corridor != LabyrinthGraph.NONE)
 				{
-					//flag false for all buttons in game
-					this.pressDown(false);
-					this.pressLeft(false);
-					this.pressRight(false);
-					this.pressUp(false);
+					//the junctions and corridors of the maze
+					final LabyrinthGraph graph = super.getGame().getLabyrinth().getGraph();
+					
+					corridorStep++;
 					
-					//let's see which direction we are headed
-					switch (options.get(0))
+					//if we reached the end of the corridor, check if the node only has one way forward
+					if (corridorStep >= graph.getLength(corridor))
 					{
-						case West:
-							setTarget(getCol() - 1, getRow());
-							break;
-							
-						case East:
-							setTarget(getCol() + 1, getRow());
-							break;
-							
-						case North:
-							setTarget(getCol(), getRow() - 1);
-							break;
-							
-						case South:
-							setTarget(getCol(), getRow() + 1);
-							break;
+						corridor = graph.getContinuation(corridor);
+						corridorStep = 0;
 					}
 					
-					//no need to continue further
-					return;
+					if (corridor != LabyrinthGraph.NONE)
+					{
+						//flag false for all buttons in game
+						this.pressDown(false);
+						this.pressLeft(false);
+						this.pressRight(false);
+						this.pressUp(false);
+						
+						//head to the next room in the corridor
+						final int index = graph.getCorridorRoom(corridor, corridorStep);
+						setTarget(index % getGame().getLabyrinth().getGrid().getCols(), index / getGame().getLabyrinth().getGrid().getCols());
+						
+						//no need to continue further
+						return;
+					}
 				}
 			}
 		}
@@ -232,20 +208,20 @@ public class Human extends Player
     		if (hasGoal())
     			return;
     		
-    		//get the current room in the maze
-    		Room room = getGame().getLabyrinth().getMaze().getRoom((int)getCol(), (int)getRow());
+    		//get the walls of the current room in the maze
+    		final int walls = getGame().getLabyrinth().getGrid().getWalls((int)getCol(), (int)getRow());
     	
 	    	//move player based on button pressed
 	    	if (hasPressDown())
 	    	{
 	    		//make sure there isn't a wall in the way, and then we can set our target
-	    		 if (!room.hasWall(Wall.South))
+	    		 if ((walls & LabyrinthGrid.WALL_SOUTH) == 0)
 	    			 setTarget(getCol(), getRow() + 1);
 	    	}
 	    	else if (hasPressUp())
 	    	{
 	    		//make sure there isn't a wall in the way, and then we can set our target
-	    		 if (!room.hasWall(Wall.North))
+	    		 if ((walls & LabyrinthGrid.WALL_NORTH) == 0)
 	    			 setTarget(getCol(), getRow() - 1);
 	    		 
 	    		 //we can't press this button at this time
@@ -255,7 +231,7 @@ public class Human extends Player
 	    	if (hasPressLeft())
 	    	{
 	    		//make sure there isn't a wall in the way, and then we can set our target
-	    		 if (!room.hasWall(Wall.West))
+	    		 if ((walls & LabyrinthGrid.WALL_WEST) == 0)
 	    			 setTarget(getCol() - 1, getRow());
 	    		 
 	    		 //we can't press this button at this time
@@ -264,22 +240,64 @@ public class Human extends Player
 	    	else if (hasPressRight())
 	    	{
 	    		//make sure there isn't a wall in the way, and then we can set our target
-	    		 if (!room.hasWall(Wall.East))
+	    		 if ((walls & LabyrinthGrid.WALL_EAST) == 0)
 	    			 setTarget(getCol() + 1, getRow());
 	    		 
 	    		 //we can't press this button at this time
 	    		 pressLeft(false);
 	    	}
+	    	
+	    	//if we started moving, plan the whole corridor in the direction we are headed
+	    	if (hasVelocity())
+	    	{
+	    		this.corridor = getGame().getLabyrinth().getGraph().getEdge(
+	    			getGame().getLabyrinth().getGraph().getNode(getGame().getLabyrinth().getGrid().getIndex((int)getCol(), (int)getRow())), 
+	    			getDirection()
+	    		);
+	    		this.corridorStep = 0;
+	    	}
     	}
 	}
 	
+	/**
+	 * Get the direction we are headed
+	 * @return The bit flag of the wall in the direction of our velocity
+	 */
+	private int getDirection()
+	{
+		if (getDX() < 0)
+			return LabyrinthGrid.WALL_WEST;
+		if (getDX() > 0)
+			return LabyrinthGrid.WALL_EAST;
+		if (getDY() < 0)
+			return LabyrinthGrid.WALL_NORTH;
+		
+		return LabyrinthGrid.WALL_SOUTH;
+	}
+	
+	/**
+	 * Update the description of the rooms remaining to reach the goal
+	 */
+	private void updateDistance()
+	{
+		//if the maze isn't generated there is nothing to display
+		if (getGame().getLabyrinth().getGrid() == null)
+		{
+			this.distanceDescription.setText("");
+			return;
+		}
+		
+		//the distance was measured when the maze was generated, so we only need to look it up
+		this.distanceDescription.setNumber(PREFIX_DISTANCE, getGame().getLabyrinth().getDistance((int)getCol(), (int)getRow()));
+	}
+	
 	/**
 	 * Update the game time
 	 */
 	private void updateTime()
 	{
 		//store the previous time
-		final long current = System.currentTimeMillis();
+		final long current = GameClock.currentTimeMillis();
 		
 		//update elapsed time
 		setTime(getTime() + (current - previous));
@@ -287,8 +305,8 @@ public class Human extends Player
 		//the previous time is now the current time
 		previous = current;
 		
-		//score object
-		Score score = super.getGame().getLevels().getScoreCard().getScore();;
+		//the best time of the level, NONE if not solved
+		final long best = super.getGame().getLevels().getScoreCard().getTime();
 		
 		//format the time accordingly
 		switch (super.getGame().getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_MODE))
@@ -296,12 +314,12 @@ public class Human extends Player
 			//timed mode, the timer will count down
 			case 1:
 				//set the time depending if a score was previously sent
-				if (score != null)
+				if (best != ScoreCard.NONE)
 				{
 					//if time has run out
-					if (score.getTime() - getTime() <= 0)
+					if (best - getTime() <= 0)
 					{
-						this.timeDescription = "Time: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, 0);
+						this.timeDescription.setTime(PREFIX_TIME, 0);
 						
 						//set state to game over
 						super.getGame().getScreen().setState(State.GameOver);
@@ -314,34 +332,39 @@ public class Human extends Player
 					}
 					else
 					{
-						this.timeDescription = "Time: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, score.getTime() - getTime());
+						this.timeDescription.setTime(PREFIX_TIME, best - getTime());
 					}
 					
 					//display personal best
-					this.bestDescription = "Best: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, score.getTime());
+					this.bestDescription.setTime(PREFIX_BEST, best);
 				}
 				else
 				{
-					this.timeDescription = "Time: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, getTime());
-					this.bestDescription = "Best: None";
+					this.timeDescription.setTime(PREFIX_TIME, getTime());
+					this.bestDescription.setText(BEST_NONE);
 				}
 				break;
 				
 			//versus computer or free mode will not have a timer
 			case 2:
 			case 3:
-				this.timeDescription = "";
-				this.bestDescription = "";
+				this.timeDescription.setText("");
+				this.bestDescription.setText("");
 				break;
 				
 			//casual we will display
 			case 0:
 			default:
-				this.timeDescription = "Time: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, getTime());
-				this.bestDescription = "Best: None";
+				this.timeDescription.setTime(PREFIX_TIME, getTime());
 				
-				if (score != null)
-					this.bestDescription = "Best: " + TimeFormat.getDescription(TimeFormat.FORMAT_1, score.getTime());
+				if (best != ScoreCard.NONE)
+				{
+					this.bestDescription.setTime(PREFIX_BEST, best);
+				}
+				else
+				{
+					this.bestDescription.setText(BEST_NONE);
+				}
 				break;
 		}
 	}
@@ -444,40 +467,103 @@ public class Human extends Player
 		return this.time;
 	}
 	
+	/**
+	 * Get the time description
+	 * @return The text of the game timer
+	 */
+	public HudText getTimeDescription()
+	{
+		return this.timeDescription;
+	}
+	
+	/**
+	 * Get the best time description
+	 * @return The text of the best time for the level
+	 */
+	public HudText getBestDescription()
+	{
+		return this.bestDescription;
+	}
+	
+	/**
+	 * Get the distance description
+	 * @return The text of the rooms remaining to reach the goal
+	 */
+	public HudText getDistanceDescription()
+	{
+		return this.distanceDescription;
+	}
+	
+	/**
+	 * Get the solver
+	 * @return The object used to find the path to the goal
+	 */
+	protected PathSolver getSolver()
+	{
+		return this.solver;
+	}
+	
+	/**
+	 * Assign the path to follow, this will start at the first step
+	 * @param path The index of each room on the path, null if there is no path
+	 */
+	protected void setPath(final int[] path)
+	{
+		this.path = path;
+		this.step = 0;
+	}
+	
+	/**
+	 * Get the path
+	 * @return The index of each room on the path, null if there is no path
+	 */
+	protected int[] getPath()
+	{
+		return this.path;
+	}
+	
+	/**
+	 * Assign the current step
+	 * @param step The index of the step on the path
+	 */
+	protected void setStep(final int step)
+	{
+		this.step = step;
+	}
+	
+	/**
+	 * Get the current step
+	 * @return The index of the step on the path
+	 */
+	protected int getStep()
+	{
+		return this.step;
+	}
+	
 	@Override
     public void render(final Canvas canvas) throws Exception
     {
 		//render the player
 		super.render(canvas);
 		
+		//the text is read from the snapshot, since the update thread could be changing it
+		final GameSnapshot snapshot = getGame().getSnapshot();
+		
 		//render the timers
-		canvas.drawText(timeDescription, TIME_X, TIME_Y, paint);
-		canvas.drawText(bestDescription, TIME_X, TIME_Y + 25, paint);
+		render(canvas, snapshot.getTimeDescription(), TIME_Y);
+		render(canvas, snapshot.getBestDescription(), TIME_Y + 25);
+		render(canvas, snapshot.getDistanceDescription(), TIME_Y + 50);
 		
     }
 	
-	
 	/**
-	 * A location on the maze
+	 * Render a line of the heads up display
+	 * @param canvas Object to write pixel data
+	 * @param text The text to render
+	 * @param y The y-coordinate
 	 */
-	protected static class Location
-	{
-		protected double col, row;
-		
-		protected Location(final double col, final double row)
-		{
-			this.col = col;
-			this.row = row;
-		}
-		
-		protected Location(final int col, final int row)
-		{
-			this ((double)col, (double)row);
-		}
-	}
-	
-	protected void setSteps(final List<Location> steps)
+	private void render(final Canvas canvas, final HudText text, final int y)
 	{
-		this.steps = steps;
+		canvas.drawText(text.getChars(), 0, text.getLength(), TIME_X, y, paint);
 	}
 }
\ No newline at end of file
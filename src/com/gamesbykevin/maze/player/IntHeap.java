@@ -0,0 +1,125 @@
+package com.gamesbykevin.maze.player;
+
+import java.util.Arrays;
+
+/**
+ * A binary min heap of int values ordered by an int priority.<br>
+ * The arrays are kept when cleared so searching again won't need to allocate them.
+ * @author GOD
+ */
+final class IntHeap
+{
+	//the values in the heap
+	private int[] values;
+	
+	//the priority of each value in the heap
+	private int[] priority;
+	
+	//the number of entries in the heap
+	private int size = 0;
+	
+	protected IntHeap()
+	{
+		this.values = new int[16];
+		this.priority = new int[16];
+	}
+	
+	/**
+	 * Remove all entries
+	 */
+	protected void clear()
+	{
+		this.size = 0;
+	}
+	
+	/**
+	 * Is the heap empty?
+	 * @return true if there are no entries, false otherwise
+	 */
+	protected boolean isEmpty()
+	{
+		return (size == 0);
+	}
+	
+	/**
+	 * Add the value to the heap
+	 * @param value The value
+	 * @param cost The priority, lower values are removed first
+	 */
+	protected void push(final int value, final int cost)
+	{
+		//make sure we have room
+		if (size == values.length)
+		{
+			values = Arrays.copyOf(values, size * 2);
+			priority = Arrays.copyOf(priority, size * 2);
+		}
+		
+		int position = size++;
+		
+		//move the entry up until the parent costs less
+		while (position > 0)
+		{
+			final int above = (position - 1) / 2;
+			
+			if (priority[above] <= cost)
+				break;
+			
+			values[position] = values[above];
+			priority[position] = priority[above];
+			position = above;
+		}
+		
+		values[position] = value;
+		priority[position] = cost;
+	}
+	
+	/**
+	 * Remove the value with the lowest priority
+	 * @return The value
+	 */
+	protected int pop()
+	{
+		final int result = values[0];
+		
+		//the last entry will be moved down from the top
+		size--;
+		final int value = values[size];
+		final int cost = priority[size];
+		
+		int position = 0;
+		
+		while (true)
+		{
+			int below = (position * 2) + 1;
+			
+			if (below >= size)
+				break;
+			
+			//choose the child that costs less
+			if (below + 1 < size && priority[below + 1] < priority[below])
+				below++;
+			
+			if (priority[below] >= cost)
+				break;
+			
+			values[position] = values[below];
+			priority[position] = priority[below];
+			position = below;
+		}
+		
+		values[position] = value;
+		priority[position] = cost;
+		
+		return result;
+	}
+	
+	/**
+	 * Get the memory used by the heap
+	 * @return The number of bytes used by our arrays
+	 */
+	protected long getMemory()
+	{
+		return (values.length + priority.length) * 4;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.gamesbykevin.maze.player;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Find the shortest path through the maze.<br>
+ * The search runs on the junction graph so each corridor is checked once, checking the nodes closest to the goal first.<br>
+ * If the start or finish is not a node we search room by room using a breadth first search instead.<br>
+ * The arrays used for the search are kept so solving again won't need to allocate them.
+ * @author GOD
+ */
+public final class PathSolver
+{
+	/**
+	 * The parent value of a room we have not reached
+	 */
+	private static final int UNVISITED = -1;
+
+	//the room we came from to reach each room
+	private int[] parent;
+
+	//the rooms waiting to be checked
+	private int[] queue;
+	
+	//the edge used to reach each node
+	private int[] edges;
+	
+	//the number of rooms from the start to each node
+	private int[] cost;
+	
+	//the nodes we have finished checking
+	private final BitSet closed = new BitSet();
+	
+	//the nodes waiting to be checked, ordered by estimated total cost
+	private final IntHeap heap = new IntHeap();
+	
+	/**
+	 * Find the shortest path between the two rooms
+	 * @param graph The junctions and corridors of the maze
+	 * @param grid The walls of the maze
+	 * @param start The index of the start room
+	 * @param finish The index of the finish room
+	 * @return The index of each room on the path including the start and finish, null if there is no path
+	 */
+	public int[] solve(final LabyrinthGraph graph, final LabyrinthGrid grid, final int start, final int finish)
+	{
+		//the nodes of the start and finish
+		final int source = graph.getNode(start);
+		final int target = graph.getNode(finish);
+		
+		//if either room is in a corridor we have to search each room
+		if (source == LabyrinthGraph.NONE || target == LabyrinthGraph.NONE)
+		{
+			return solve(
+				grid, 
+				start % grid.getCols(), 
+				start / grid.getCols(), 
+				finish % grid.getCols(), 
+				finish / grid.getCols()
+			);
+		}
+		
+		//the number of nodes in the graph
+		final int total = graph.getNodeCount();
+		
+		//make sure our arrays are large enough
+		if (edges == null || edges.length < total)
+		{
+			edges = new int[total];
+			cost = new int[total];
+		}
+		
+		//no nodes have been reached yet
+		Arrays.fill(cost, 0, total, Integer.MAX_VALUE);
+		closed.clear();
+		heap.clear();
+		
+		//start at the start
+		edges[source] = LabyrinthGraph.NONE;
+		cost[source] = 0;
+		heap.push(source, SolverHelper.getDistance(grid, start, finish));
+		
+		while (!heap.isEmpty())
+		{
+			//the node with the lowest estimated cost
+			final int current = heap.pop();
+			
+			//if we reached the finish we are done
+			if (current == target)
+				break;
+			
+			//a node can be added more than once, only check it the first time
+			if (closed.get(current))
+				continue;
+			
+			closed.set(current);
+			
+			for (int direction : SolverHelper.DIRECTIONS)
+			{
+				final int edge = graph.getEdge(current, direction);
+				
+				if (edge == LabyrinthGraph.NONE)
+					continue;
+				
+				//the node at the end of the corridor
+				final int neighbor = graph.getTarget(edge);
+				
+				//if we already have a shorter way there
+				if (cost[current] + graph.getLength(edge) >= cost[neighbor])
+					continue;
+				
+				edges[neighbor] = edge;
+				cost[neighbor] = cost[current] + graph.getLength(edge);
+				heap.push(neighbor, cost[neighbor] + SolverHelper.getDistance(grid, graph.getNodeRoom(neighbor), finish));
+			}
+		}
+		
+		//if the finish was never reached there is no path
+		if (cost[target] == Integer.MAX_VALUE)
+			return null;
+		
+		//walk back from the finish through each corridor to fill the path
+		final int[] path = new int[cost[target] + 1];
+		
+		int position = path.length - 1;
+		
+		for (int node = target; node != source; node = graph.getSource(edges[node]))
+		{
+			for (int step = graph.getLength(edges[node]) - 1; step >= 0; step--)
+			{
+				path[position--] = graph.getCorridorRoom(edges[node], step);
+			}
+		}
+		
+		path[0] = start;
+		
+		return path;
+	}
+
+	/**
+	 * Find the shortest path between the two locations
+	 * @param grid The walls of the maze
+	 * @param startCol Start column
+	 * @param startRow Start row
+	 * @param finishCol Finish column
+	 * @param finishRow Finish row
+	 * @return The index of each room on the path including the start and finish, null if there is no path
+	 */
+	public int[] solve(final LabyrinthGrid grid, final int startCol, final int startRow, final int finishCol, final int finishRow)
+	{
+		//the number of rooms in the maze
+		final int cols = grid.getCols();
+		final int total = cols * grid.getRows();
+
+		//make sure our arrays are large enough
+		if (parent == null || parent.length < total)
+		{
+			parent = new int[total];
+			queue = new int[total];
+		}
+
+		//no rooms have been reached yet
+		Arrays.fill(parent, 0, total, UNVISITED);
+
+		//the index of the start and finish
+		final int start = grid.getIndex(startCol, startRow);
+		final int finish = grid.getIndex(finishCol, finishRow);
+
+		//the start is where we begin
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		parent[start] = start;
+
+		while (head < tail)
+		{
+			//get the next room
+			final int current = queue[head++];
+
+			//if we reached the finish we are done
+			if (current == finish)
+				break;
+
+			//the walls in this room
+			final int walls = grid.getWalls(current);
+
+			//check each open side for a room we haven't reached
+			if ((walls & LabyrinthGrid.WALL_NORTH) == 0 && current >= cols)
+				tail = visit(current - cols, current, tail);
+			if ((walls & LabyrinthGrid.WALL_SOUTH) == 0 && current + cols < total)
+				tail = visit(current + cols, current, tail);
+			if ((walls & LabyrinthGrid.WALL_WEST) == 0 && current % cols > 0)
+				tail = visit(current - 1, current, tail);
+			if ((walls & LabyrinthGrid.WALL_EAST) == 0 && current % cols < cols - 1)
+				tail = visit(current + 1, current, tail);
+		}
+
+		//if the finish was never reached there is no path
+		if (parent[finish] == UNVISITED)
+			return null;
+
+		//count the rooms on the path
+		int length = 1;
+
+		for (int index = finish; index != start; index = parent[index])
+		{
+			length++;
+		}
+
+		//walk back from the finish to fill the path
+		final int[] path = new int[length];
+
+		for (int index = finish, step = length - 1; step >= 0; index = parent[index], step--)
+		{
+			path[step] = index;
+		}
+
+		return path;
+	}
+
+	/**
+	 * Add the room to the queue if it hasn't been reached
+	 * @param index The room we want to visit
+	 * @param current The room we are coming from
+	 * @param tail The end of the queue
+	 * @return The new end of the queue
+	 */
+	private int visit(final int index, final int current, final int tail)
+	{
+		//if already reached, there is a shorter path to it
+		if (parent[index] != UNVISITED)
+			return tail;
+
+		//we came from the current room
+		parent[index] = current;
+
+		//add to the queue
+		queue[tail] = index;
+
+		return (tail + 1);
+	}
+	
+	/**
+	 * Get the memory used by the solver
+	 * @return The estimated number of bytes used to track the search
+	 */
+	public long getMemory()
+	{
+		long bytes = heap.getMemory() + (closed.size() / 8);
+		
+		if (parent != null)
+			bytes += (parent.length + queue.length) * 4;
+		if (edges != null)
+			bytes += (edges.length + cost.length) * 4;
+		
+		return bytes;
+	}
+}
\ No newline at end of file
@@ -26,12 +26,15 @@ public abstract class Player extends Entity implements IGame
 	//the target destination we want to move to
 	private double targetCol, targetRow;
 	
+	//the location at the start of the current tick, used to render between ticks
+	private double previousCol, previousRow;
+	
 	/**
 	 * The different animation keys for the player
 	 * @author GOD
 	 *
 	 */
-	protected enum AnimationKey
+	public enum AnimationKey
 	{
 		IsometricNorthWalk,
 		IsometricNorthStand,
@@ -74,6 +77,9 @@ public abstract class Player extends Entity implements IGame
 	//does this player have the perspective
 	private boolean focus = false;
 	
+	//the animation chosen by the game logic, the render thread assigns it to the sprite sheet
+	private AnimationKey animationKey;
+	
 	public Player(final Game game, final boolean human)
 	{
 		super();
@@ -155,6 +161,10 @@ public abstract class Player extends Entity implements IGame
 	 */
 	public boolean hasGoal(final double col, final double row)
 	{
+		//we can't be at the goal if the maze hasn't been generated
+		if (!getGame().getLabyrinth().isGenerated())
+			return false;
+		
 		//if the location of the finish matches this location we have the specified goal
 		if (getGame().getLabyrinth().getMaze().getFinish().hasLocation(col, row))
 			return true;
@@ -222,6 +232,9 @@ public abstract class Player extends Entity implements IGame
 		//the target will be the current location
 		setTarget(getCol(), getRow());
 		
+		//we don't want to render moving from where we were before the reset
+		storePreviousLocation();
+		
 		if (hasIsometric())
 		{
 			//set a default animation
@@ -305,30 +318,93 @@ public abstract class Player extends Entity implements IGame
 		return super.hasLocation(targetCol, targetRow);
 	}
 	
+	/**
+	 * Store the current location as the previous location.<br>
+	 * This is called at the start of every game tick, before the player moves
+	 */
+	public void storePreviousLocation()
+	{
+		this.previousCol = getCol();
+		this.previousRow = getRow();
+	}
+	
+	/**
+	 * Get the previous column
+	 * @return The column at the start of the current tick
+	 */
+	public double getPreviousCol()
+	{
+		return this.previousCol;
+	}
+	
+	/**
+	 * Get the previous row
+	 * @return The row at the start of the current tick
+	 */
+	public double getPreviousRow()
+	{
+		return this.previousRow;
+	}
+	
+	/**
+	 * Create the animations from the game images.<br>
+	 * The animations are created with the player, this is only needed after releaseAnimations()
+	 */
+	public void createAnimations()
+	{
+		PlayerHelper.setupAnimations(this);
+	}
+	
+	/**
+	 * Dispose the animations, so the game images can be recycled.<br>
+	 * The location and animation key are kept
+	 */
+	public void releaseAnimations()
+	{
+		PlayerHelper.releaseAnimations(this);
+	}
+	
 	/**
 	 * Get the current assigned animation key
 	 * @return The current animation
 	 */
-	protected AnimationKey getAnimationKey()
+	public AnimationKey getAnimationKey()
 	{
-		return (AnimationKey)super.getSpritesheet().getKey();
+		return this.animationKey;
 	}
 	
 	/**
-	 * Set the animation of the player
+	 * Set the animation of the player.<br>
+	 * Only the key is stored, the sprite sheet is updated by the render thread
 	 * @param key The desired animation
 	 */
 	public final void setAnimationKey(final AnimationKey key)
 	{
-		super.getSpritesheet().setKey(key);
+		this.animationKey = key;
+	}
+	
+	/**
+	 * Assign the animation to the sprite sheet and advance the animation.<br>
+	 * This is called by the render thread with the animation from the game snapshot, never the update thread
+	 * @param key The animation chosen by the game logic
+	 */
+	public void updateAnimation(final AnimationKey key)
+	{
+		//nothing to draw until the player has been reset
+		if (key == null)
+			return;
+		
+		//assign the animation if it changed
+		if (super.getSpritesheet().getKey() != key)
+			super.getSpritesheet().setKey(key);
+		
+		//update animation
+		super.getSpritesheet().get().update();
 	}
 	
 	@Override
     public void update() throws Exception
     {
-		//update animation
-    	super.getSpritesheet().get().update();
-    	
     	//if there is velocity or we are not at our target column
     	if (getDX() != 0 || getDY() != 0 || getCol() != targetCol || getRow() != targetRow)
     	{
@@ -354,6 +430,17 @@ public abstract class Player extends Entity implements IGame
     		}
     	}
     	
+    }
+    
+    /**
+     * Update the (x, y) coordinates where the player is rendered.<br>
+     * This is called by the render thread with the location from the game snapshot, never the update thread.<br>
+     * The player with focus is always rendered at the same coordinates, so only the other players are updated
+     * @param col The column to render the player at
+     * @param row The row to render the player at
+     */
+    public void updateCoordinates(final double col, final double row)
+    {
     	//if this player does not have focus, we need to update the (x, y)
     	if (!hasFocus())
     	{
@@ -361,14 +448,14 @@ public abstract class Player extends Entity implements IGame
     		if (hasIsometric())
     		{
     			//update opponents coordinates, we offset here a little in reference to the human player
-    			setX(getGame().getLabyrinth().getCoordinateX(getCol() - .75, getRow() - 1.75));
-    			setY(getGame().getLabyrinth().getCoordinateY(getCol() - .75, getRow() + .5));
+    			setX(getGame().getLabyrinth().getCoordinateX(col - .75, row - 1.75));
+    			setY(getGame().getLabyrinth().getCoordinateY(col - .75, row + .5));
     		}
     		else
     		{
     			//update opponents coordinates
-    			setX(getGame().getLabyrinth().getCoordinateX(getCol() + .5, getRow() + .5));
-    			setY(getGame().getLabyrinth().getCoordinateY(getCol() + .5, getRow() + .5));
+    			setX(getGame().getLabyrinth().getCoordinateX(col + .5, row + .5));
+    			setY(getGame().getLabyrinth().getCoordinateY(col + .5, row + .5));
     		}
     	}
     }
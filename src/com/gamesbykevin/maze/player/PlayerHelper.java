@@ -1,15 +1,10 @@
 package com.gamesbykevin.maze.player;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.gamesbykevin.androidframework.anim.Animation;
-import com.gamesbykevin.androidframework.maze.Room;
-import com.gamesbykevin.androidframework.maze.Room.Wall;
 import com.gamesbykevin.androidframework.resources.Images;
 import com.gamesbykevin.maze.assets.Assets;
-import com.gamesbykevin.maze.panel.GamePanel;
-import com.gamesbykevin.maze.player.Human.Location;
+import com.gamesbykevin.maze.labyrinth.Labyrinth;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
 import com.gamesbykevin.maze.player.Player.AnimationKey;
 
 public final class PlayerHelper 
@@ -25,11 +20,11 @@ public final class PlayerHelper
 	 * Assign the player's standing animation.<br>
 	 * This is so the player is not facing a direction they can't move in.
 	 * @param player The player we want to set the animation
-	 * @param room The room we are assuming the player is in
+	 * @param walls The bit flags of the walls in the room we are assuming the player is in
 	 */
-	public static void assignStartAnimation(final Player player, final Room room)
+	public static void assignStartAnimation(final Player player, final int walls)
 	{
-		if (!room.hasWall(Wall.South))
+		if ((walls & LabyrinthGrid.WALL_SOUTH) == 0)
 		{
 			if (player.hasIsometric())
 			{
@@ -40,7 +35,7 @@ public final class PlayerHelper
 				player.setAnimationKey(AnimationKey.TopDownSouthStand);
 			}
 		}
-		else if (!room.hasWall(Wall.East))
+		else if ((walls & LabyrinthGrid.WALL_EAST) == 0)
 		{
 			if (player.hasIsometric())
 			{
@@ -51,7 +46,7 @@ public final class PlayerHelper
 				player.setAnimationKey(AnimationKey.TopDownEastStand);
 			}
 		}
-		else if (!room.hasWall(Wall.West))
+		else if ((walls & LabyrinthGrid.WALL_WEST) == 0)
 		{
 			if (player.hasIsometric())
 			{
@@ -62,7 +57,7 @@ public final class PlayerHelper
 				player.setAnimationKey(AnimationKey.TopDownWestStand);
 			}
 		}
-		else if (!room.hasWall(Wall.North))
+		else if ((walls & LabyrinthGrid.WALL_NORTH) == 0)
 		{
 			if (player.hasIsometric())
 			{
@@ -216,6 +211,22 @@ public final class PlayerHelper
 		addAnimation(player, AnimationKey.TopDownWestStand, 0, 750, ANIMATION_DIMENSION_TOP_DOWN, 1, false);
 	}
 	
+	/**
+	 * Dispose the animations of the player, so the player image can be recycled.<br>
+	 * The animations are created again by setupAnimations()
+	 * @param player The player we want to remove the animations from
+	 */
+	protected static void releaseAnimations(final Player player)
+	{
+		for (AnimationKey key : AnimationKey.values())
+		{
+			final Animation animation = player.getSpritesheet().get(key);
+			
+			if (animation != null)
+				animation.dispose();
+		}
+	}
+	
 	/**
 	 * Add animation to the specified player
 	 * @param player
@@ -252,190 +263,88 @@ public final class PlayerHelper
 		player.getSpritesheet().add(key, animation);
 	}
 	
-	protected static void updateAI(final Human player, List<Location> steps)
+	/**
+	 * Move the human along the shortest path to the goal.<br>
+	 * If the path has not been found yet it will be solved first.
+	 * @param player The human player
+	 */
+	protected static void updateAI(final Human player)
 	{
-		//create if null
-		if (steps == null)
-			steps = new ArrayList<Location>();
+		//the labyrinth we are solving
+		final Labyrinth labyrinth = player.getGame().getLabyrinth();
+		
+		//the packed walls of the maze
+		final LabyrinthGrid grid = labyrinth.getGrid();
 		
-		//if there are no steps let's create them
-		if (steps.isEmpty())
+		//if there is no path let's create it
+		if (player.getPath() == null)
 		{
-			//keep track of visited locations
-			List<Location> visited = new ArrayList<Location>();
-			
-			//list of optional directions to go for a location
-			List<Wall> test = new ArrayList<Wall>();
-			
-			//start where the human currently is located
-			int col = (int)player.getCol(); 
-			int row = (int)player.getRow();
-			
-			//continue until we are at the goal
-			while (!player.hasGoal(col, row))
-			{
-				//clear list
-				test.clear();
-				
-				for (Wall wall : Wall.values())
-				{
-					//if there isn't a wall
-					if (!player.getGame().getLabyrinth().getMaze().getRoom(col, row).hasWall(wall))
-					{
-						int offsetCol = 0;
-						int offsetRow = 0;
-						
-						switch (wall)
-						{
-    						case North:
-    							offsetRow = -1;
-    							break;
-    							
-    						case South:
-    							offsetRow = 1;
-    							break;
-    							
-    						case East:
-    							offsetCol = 1;
-    							break;
-    							
-    						case West:
-    							offsetCol = -1;
-    							break;
-						}
-						
-						//do we already have this location
-						boolean match = false;
-						
-						//and if it isn't already in our steps add it to test list
-						for (Location location : steps)
-						{
-							if (location.col == col + offsetCol && location.row == row + offsetRow)
-							{
-								//we have a match
-								match = true;
-								
-								//exit loop
-								break;
-							}
-						}
-						
-						if (!match)
-						{
-							//also make sure it isn't in our list of visited locations
-							for (Location location : visited)
-							{
-								if (location.col == col + offsetCol && location.row == row + offsetRow)
-								{
-									//we have a match
-									match = true;
-									
-									//exit loop
-									break;
-								}
-							}
-						}
-						
-						//if this is not a match this direction is an option
-						if (!match)
-						{
-							test.add(wall);
-						}
-					}
-				}
-				
-				//if we don't have any open options go backwards
-				if (test.isEmpty())
-				{
-					//add to visited locations as well
-					visited.add(new Location(col, row));
-					
-					//remove last entry from steps list
-					steps.remove(steps.size() - 1);
-					
-					//go back to last location
-					col = (int)steps.get(steps.size() - 1).col;
-					row = (int)steps.get(steps.size() - 1).row;
-				}
-				else
-				{
-					int offsetCol = 0;
-					int offsetRow = 0;
-					
-					//get random wall
-					switch (test.get(GamePanel.RANDOM.nextInt(test.size())))
-					{
-						case North:
-							offsetRow = -1;
-							break;
-							
-						case South:
-							offsetRow = 1;
-							break;
-							
-						case East:
-							offsetCol = 1;
-							break;
-							
-						case West:
-							offsetCol = -1;
-							break;
-					}
-					
-					col += offsetCol;
-					row += offsetRow;
-					
-					//add to the list of steps
-					steps.add(new Location(col, row));
-				}
-			}
-			
-			//add start location as our first step
-			steps.add(0, new Location(player.getCol(), player.getRow()));
-			
-			//assign the steps
-			player.setSteps(steps);
+			//solve from where the human is currently located to the goal
+			player.setPath(
+				player.getSolver().solve(
+					labyrinth.getGraph(), 
+					grid, 
+					grid.getIndex((int)player.getCol(), (int)player.getRow()), 
+					grid.getIndex(labyrinth.getMaze().getFinishCol(), labyrinth.getMaze().getFinishRow())
+				)
+			);
+			return;
+		}
+		
+		//the location of the next step, if we have completed the path stay where we are
+		final int col;
+		final int row;
+		
+		if (player.getStep() < player.getPath().length)
+		{
+			col = player.getPath()[player.getStep()] % grid.getCols();
+			row = player.getPath()[player.getStep()] / grid.getCols();
 		}
 		else
 		{
-			//determine which direction to head in
-			if (player.getCol() < steps.get(0).col)
-			{
-				player.pressRight(true);
-				player.pressLeft(false);
-				player.pressDown(false);
-				player.pressUp(false);
-			}
-			else if (player.getCol() > steps.get(0).col)
-			{
-				player.pressRight(false);
-				player.pressLeft(true);
-				player.pressDown(false);
-				player.pressUp(false);
-			}
-			else if (player.getRow() < steps.get(0).row)
-			{
-				player.pressRight(false);
-				player.pressLeft(false);
-				player.pressDown(true);
-				player.pressUp(false);
-			}
-			else if (player.getRow() > steps.get(0).row)
-			{
-				player.pressRight(false);
-				player.pressLeft(false);
-				player.pressDown(false);
-				player.pressUp(true);
-			}
-			else
-			{
-				steps.remove(0);
-				
-				player.pressRight(false);
-				player.pressLeft(false);
-				player.pressDown(false);
-				player.pressUp(false);
-			}
+			col = (int)player.getCol();
+			row = (int)player.getRow();
+		}
+		
+		//determine which direction to head in
+		if (player.getCol() < col)
+		{
+			player.pressRight(true);
+			player.pressLeft(false);
+			player.pressDown(false);
+			player.pressUp(false);
+		}
+		else if (player.getCol() > col)
+		{
+			player.pressRight(false);
+			player.pressLeft(true);
+			player.pressDown(false);
+			player.pressUp(false);
+		}
+		else if (player.getRow() < row)
+		{
+			player.pressRight(false);
+			player.pressLeft(false);
+			player.pressDown(true);
+			player.pressUp(false);
+		}
+		else if (player.getRow() > row)
+		{
+			player.pressRight(false);
+			player.pressLeft(false);
+			player.pressDown(false);
+			player.pressUp(true);
+		}
+		else
+		{
+			//we reached this step, move on to the next
+			if (player.getStep() < player.getPath().length)
+				player.setStep(player.getStep() + 1);
+			
+			player.pressRight(false);
+			player.pressLeft(false);
+			player.pressDown(false);
+			player.pressUp(false);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.gamesbykevin.maze.player;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Helper methods shared by the solver strategies
+ * @author GOD
+ */
+public final class SolverHelper 
+{
+	/**
+	 * The value used when there is no room
+	 */
+	protected static final int NONE = LabyrinthGrid.NONE;
+	
+	/**
+	 * Each direction we can move in clockwise order
+	 */
+	protected static final int[] DIRECTIONS = {
+		LabyrinthGrid.WALL_NORTH, 
+		LabyrinthGrid.WALL_EAST, 
+		LabyrinthGrid.WALL_SOUTH, 
+		LabyrinthGrid.WALL_WEST
+	};
+	
+	/**
+	 * Get the neighboring room in the specified direction
+	 * @param grid The walls of the maze
+	 * @param index The index of the current room
+	 * @param direction The bit flag of the direction to move
+	 * @return The index of the neighbor, NONE if there is a wall or we leave the maze
+	 */
+	protected static int getNeighbor(final LabyrinthGrid grid, final int index, final int direction)
+	{
+		return grid.getNeighbor(index, direction);
+	}
+	
+	/**
+	 * Get the position of the direction in our clockwise order
+	 * @param grid The walls of the maze
+	 * @param from The index of the room we are in
+	 * @param to The index of the neighboring room
+	 * @return The position in DIRECTIONS, NONE if the rooms are not neighbors
+	 */
+	protected static int getDirection(final LabyrinthGrid grid, final int from, final int to)
+	{
+		if (to == from - grid.getCols())
+			return 0;
+		if (to == from + 1)
+			return 1;
+		if (to == from + grid.getCols())
+			return 2;
+		if (to == from - 1)
+			return 3;
+		
+		return NONE;
+	}
+	
+	/**
+	 * Get the estimated distance between the rooms
+	 * @param grid The walls of the maze
+	 * @param from The index of the first room
+	 * @param to The index of the second room
+	 * @return The number of columns and rows between the rooms
+	 */
+	protected static int getDistance(final LabyrinthGrid grid, final int from, final int to)
+	{
+		return Math.abs((from % grid.getCols()) - (to % grid.getCols())) + Math.abs((from / grid.getCols()) - (to / grid.getCols()));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.gamesbykevin.maze.player;
+
+/**
+ * The cost of a strategy solving the maze.<br>
+ * This lets us compare how expensive each strategy is to run.
+ * @author GOD
+ */
+public final class SolverMetrics
+{
+	/**
+	 * Notified when a strategy has solved the maze
+	 */
+	public interface Listener
+	{
+		/**
+		 * The strategy has reached the goal
+		 * @param strategy The strategy used
+		 * @param metrics The cost of solving the maze
+		 */
+		public void onSolved(final SolverStrategy strategy, final SolverMetrics metrics);
+	}
+	
+	//total time spent choosing where to move (nanoseconds)
+	private long planningTime = 0;
+	
+	//the most memory used by the strategy (bytes)
+	private long memory = 0;
+	
+	//the number of rooms moved
+	private int steps = 0;
+	
+	/**
+	 * Reset the metrics for a new maze
+	 */
+	public void reset()
+	{
+		this.planningTime = 0;
+		this.memory = 0;
+		this.steps = 0;
+	}
+	
+	/**
+	 * Add the time spent planning
+	 * @param nanoseconds The time to add (nanoseconds)
+	 */
+	protected void addPlanningTime(final long nanoseconds)
+	{
+		this.planningTime += nanoseconds;
+	}
+	
+	/**
+	 * Update the memory used, we only keep the most used
+	 * @param bytes The current memory used (bytes)
+	 */
+	protected void updateMemory(final long bytes)
+	{
+		this.memory = Math.max(this.memory, bytes);
+	}
+	
+	/**
+	 * Add a step taken
+	 */
+	protected void increaseSteps()
+	{
+		this.steps++;
+	}
+	
+	/**
+	 * Get the time spent planning
+	 * @return The total time spent choosing where to move (nanoseconds)
+	 */
+	public long getPlanningTime()
+	{
+		return this.planningTime;
+	}
+	
+	/**
+	 * Get the memory used
+	 * @return The most memory used by the strategy (bytes)
+	 */
+	public long getMemory()
+	{
+		return this.memory;
+	}
+	
+	/**
+	 * Get the steps taken
+	 * @return The number of rooms moved
+	 */
+	public int getSteps()
+	{
+		return this.steps;
+	}
+}
\ No newline at end of file
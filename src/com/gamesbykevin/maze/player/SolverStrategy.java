@@ -0,0 +1,41 @@
+package com.gamesbykevin.maze.player;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Each strategy the computer can use to solve the maze needs to have these methods.<br>
+ * Rooms are identified by their index in the labyrinth grid.
+ * @author GOD
+ */
+public interface SolverStrategy
+{
+    /**
+     * Prepare to solve the maze, any planning ahead of time is done here
+     * @param grid The walls of the maze
+     * @param graph The junctions and corridors of the maze, planning on the graph skips whole corridors
+     * @param start The index of the room we are starting in
+     * @param finish The index of the goal
+     */
+    public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish);
+    
+    /**
+     * Choose the next room to move to
+     * @param grid The walls of the maze
+     * @param current The index of the room we are currently in
+     * @return The index of the neighboring room to move to
+     */
+    public int next(final LabyrinthGrid grid, final int current);
+    
+    /**
+     * Get the memory used by this strategy
+     * @return The estimated number of bytes used to track the search
+     */
+    public long getMemory();
+    
+    /**
+     * Get the name of this strategy
+     * @return The description of this strategy
+     */
+    public String getName();
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.gamesbykevin.maze.player;
+
+import java.util.Arrays;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Mark each passage as we walk through it, and never walk a passage more than twice.<br>
+ * When we come back to a room we already marked through a new passage, we turn around.
+ * @author GOD
+ */
+public final class TremauxStrategy implements SolverStrategy
+{
+	//the number of times each passage was walked, 4 passages per room
+	private byte[] marks;
+	
+	//the room we came from
+	private int previous = SolverHelper.NONE;
+	
+	public TremauxStrategy()
+	{
+		this.marks = new byte[0];
+	}
+	
+	@Override
+	public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish)
+	{
+		//the number of passages
+		final int total = grid.getCols() * grid.getRows() * SolverHelper.DIRECTIONS.length;
+		
+		//make sure we can mark every passage
+		if (marks.length < total)
+			marks = new byte[total];
+		
+		//no passages have been walked
+		Arrays.fill(marks, 0, total, (byte)0);
+		
+		//we haven't come from anywhere
+		this.previous = SolverHelper.NONE;
+	}
+	
+	@Override
+	public int next(final LabyrinthGrid grid, final int current)
+	{
+		//the first mark of this room
+		final int offset = current * SolverHelper.DIRECTIONS.length;
+		
+		//the passage we came in through
+		final int entrance = (previous == SolverHelper.NONE) ? SolverHelper.NONE : SolverHelper.getDirection(grid, current, previous);
+		
+		//has this room been marked before through another passage
+		boolean marked = false;
+		
+		//the passage with the fewest marks, other than the entrance
+		int choice = SolverHelper.NONE;
+		
+		for (int direction = 0; direction < SolverHelper.DIRECTIONS.length; direction++)
+		{
+			//skip the entrance and any walls
+			if (direction == entrance || SolverHelper.getNeighbor(grid, current, SolverHelper.DIRECTIONS[direction]) == SolverHelper.NONE)
+				continue;
+			
+			if (marks[offset + direction] > 0)
+				marked = true;
+			
+			//never walk a passage more than twice
+			if (marks[offset + direction] < 2 && (choice == SolverHelper.NONE || marks[offset + direction] < marks[offset + choice]))
+				choice = direction;
+		}
+		
+		//if we reached a marked room through a new passage turn around, or if there is no other choice
+		if (entrance != SolverHelper.NONE && ((marked && marks[offset + entrance] == 1) || choice == SolverHelper.NONE))
+			choice = entrance;
+		
+		//there is nowhere to go
+		if (choice == SolverHelper.NONE)
+			return current;
+		
+		//the room we are moving to
+		final int neighbor = SolverHelper.getNeighbor(grid, current, SolverHelper.DIRECTIONS[choice]);
+		
+		//mark the passage on both sides
+		marks[offset + choice]++;
+		marks[(neighbor * SolverHelper.DIRECTIONS.length) + ((choice + 2) % SolverHelper.DIRECTIONS.length)]++;
+		
+		//we are coming from this room
+		this.previous = current;
+		
+		return neighbor;
+	}
+	
+	@Override
+	public long getMemory()
+	{
+		return marks.length;
+	}
+	
+	@Override
+	public String getName()
+	{
+		return "Tremaux";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.gamesbykevin.maze.player;
+
+import com.gamesbykevin.maze.labyrinth.LabyrinthGraph;
+import com.gamesbykevin.maze.labyrinth.LabyrinthGrid;
+
+/**
+ * Keep our right hand on the wall until we reach the goal.<br>
+ * This needs no memory of the maze, but can take the longest route.
+ * @author GOD
+ */
+public final class WallFollowerStrategy implements SolverStrategy
+{
+	/**
+	 * The order we try each turn: right, straight, left, then turn around
+	 */
+	private static final int[] TURNS = {1, 0, -1, 2};
+	
+	//the position in the directions we are facing
+	private int heading = 0;
+	
+	@Override
+	public void reset(final LabyrinthGrid grid, final LabyrinthGraph graph, final int start, final int finish)
+	{
+		//start facing north
+		this.heading = 0;
+	}
+	
+	@Override
+	public int next(final LabyrinthGrid grid, final int current)
+	{
+		for (int turn : TURNS)
+		{
+			//the direction after turning
+			final int direction = (heading + turn + SolverHelper.DIRECTIONS.length) % SolverHelper.DIRECTIONS.length;
+			
+			//the room in that direction
+			final int neighbor = SolverHelper.getNeighbor(grid, current, SolverHelper.DIRECTIONS[direction]);
+			
+			//if we can move here, now face this way
+			if (neighbor != SolverHelper.NONE)
+			{
+				this.heading = direction;
+				return neighbor;
+			}
+		}
+		
+		//there is nowhere to go
+		return current;
+	}
+	
+	@Override
+	public long getMemory()
+	{
+		return 4;
+	}
+	
+	@Override
+	public String getName()
+	{
+		return "Wall Follower";
+	}
+}
\ No newline at end of file
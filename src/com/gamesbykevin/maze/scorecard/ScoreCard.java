@@ -4,45 +4,87 @@ import android.app.Activity;
 
 import com.gamesbykevin.androidframework.io.storage.Internal;
 import com.gamesbykevin.maze.game.Game;
+import com.gamesbykevin.maze.labyrinth.Labyrinth;
+import com.gamesbykevin.maze.level.Levels;
 import com.gamesbykevin.maze.screen.OptionsScreen;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 
 /**
- * Here we will track the best time and save it to the internal storage
+ * Here we will track the best time and save it to the internal storage.<br>
+ * The times are stored by size and level, so every lookup is a single array access.<br>
+ * Saving is done by a background thread that appends each new best time to a binary journal
  * @author GOD
  */
 public final class ScoreCard extends Internal
 {
-    //list of scores
-    private List<Score> scores;
+    /**
+     * The time returned when there is no score
+     */
+    public static final long NONE = -1;
+    
+    //the best time of each level, indexed by [size][level]
+    private long[][] times;
+    
+    //which levels have a score, indexed by (size * Levels.TOTAL_LEVELS) + level
+    private BitSet solved;
     
     /**
-     * New score separator string
+     * New score separator string, used by the text file we saved in before the journal
      */
     private static final String NEW_SCORE = ";";
     
     /**
-     * This string will separate the data for a score
+     * This string will separate the data for a score, used by the text file we saved in before the journal
      */
     private static final String SEPARATOR = "-";
     
+    /**
+     * The name of the text file we saved in before the journal
+     */
+    private static final String FILENAME = "ScoreCard";
+    
+    /**
+     * The name of the score journal file
+     */
+    private static final String FILENAME_JOURNAL = "ScoreJournal";
+    
     //our game reference object
     private final Game game;
     
+    //the thread writing our scores
+    private ScoreWriter writer;
+    
+    //are we loading the scores, there is no need to save while loading
+    private boolean loading = false;
+    
     public ScoreCard(final Game game, final Activity activity)
     {
-        super("ScoreCard", activity);
+        super(FILENAME, activity);
         
         //store our game reference object
         this.game = game;
         
-        //create new score
-        this.scores = new ArrayList<Score>();
+        //create the storage for every level and size
+        this.times = new long[Labyrinth.SIZES][Levels.TOTAL_LEVELS];
+        this.solved = new BitSet(Labyrinth.SIZES * Levels.TOTAL_LEVELS);
+        
+        //the journal our scores are saved in
+        final ScoreJournal journal = new ScoreJournal(activity, FILENAME_JOURNAL, FILENAME);
+        
+        //create the thread that writes our scores
+        this.writer = new ScoreWriter(this, journal);
+        
+        //the scores we load are already saved
+        loading = true;
         
-        //make sure content exists before we try to load it
-        if (super.getContent().toString().trim().length() > 0)
+        if (journal.exists())
+        {
+            //read the journal, if it is damaged rewrite what we could read
+            if (!journal.read(this))
+                writer.requestCompact();
+        }
+        else if (super.getContent().toString().trim().length() > 0)
         {
             //load file with each level on a new line
             final String[] scores = super.getContent().toString().split(NEW_SCORE);
@@ -61,7 +103,16 @@ public final class ScoreCard extends Internal
                 //load the score to our list
                 update(level, size, time);
             }
+            
+            //move the scores into the journal
+            writer.requestCompact();
         }
+        
+        //we are done loading
+        loading = false;
+        
+        //start writing our scores
+        this.writer.start();
     }
     
     /**
@@ -71,9 +122,13 @@ public final class ScoreCard extends Internal
      * @param size The size index
      * @return true if the specified score exists, false otherwise
      */
-    public boolean hasScore(final int level, final int size)
+    public synchronized boolean hasScore(final int level, final int size)
     {
-    	return (getScore(level, size) != null);
+    	//make sure the level and size are in bounds
+    	if (size < 0 || size >= Labyrinth.SIZES || level < 0 || level >= Levels.TOTAL_LEVELS)
+    		return false;
+    	
+    	return solved.get((size * Levels.TOTAL_LEVELS) + level);
     }
     
     /**
@@ -88,33 +143,27 @@ public final class ScoreCard extends Internal
     }
     
     /**
-     * Get the score object.<br>
-     * We will get the score of the current level and size
-     * @return The score object of the current level and size, if not found null is returned
+     * Get the best time.<br>
+     * We will get the time of the current level and size
+     * @return The best time of the current level and size, if not found NONE is returned
      */
-    public Score getScore()
+    public long getTime()
     {
-    	return getScore(game.getLevels().getLevelIndex(), game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE));
+    	return getTime(game.getLevels().getLevelIndex(), game.getScreen().getScreenOptions().getIndex(OptionsScreen.INDEX_BUTTON_SIZE));
     }
     
     /**
-     * Get the score object of the specified level and size
+     * Get the best time of the specified level and size
      * @param level The level index
-     * @param size The level index
-     * @return The score object of the specified level and size, if not found null is returned
+     * @param size The size index
+     * @return The best time of the specified level and size, if not found NONE is returned
      */
-    public Score getScore(final int level, final int size)
+    public synchronized long getTime(final int level, final int size)
     {
-    	//check our list to see if the specified score is better
-    	for (Score score : scores)
-    	{
-    		//if the level and size match return the score
-    		if (score.getLevel() == level && score.getSize() == size)
-    			return score;
-    	}
+    	if (!hasScore(level, size))
+    		return NONE;
     	
-    	//score was not found
-    	return null;
+    	return times[size][level];
     }
     
     /**
@@ -125,62 +174,46 @@ public final class ScoreCard extends Internal
      * @param time The time duration
      * @return true if updating the score was successful, false otherwise
      */
-    public boolean update(final int level, final int size, final long time)
+    public synchronized boolean update(final int level, final int size, final long time)
     {
-    	//our score object
-    	Score score = getScore(level, size);
+    	//we can't store a score outside of our levels and sizes
+    	if (size < 0 || size >= Labyrinth.SIZES || level < 0 || level >= Levels.TOTAL_LEVELS)
+    		return false;
     	
-    	if (score == null)
-    	{
-    		//score does not exist, so add it
-    		scores.add(new Score(level, size, time));
-    	}
-    	else
-    	{
-    		//if the time is less update the time
-    		if (time < score.getTime())
-    		{
-    			score.setTime(time);
-    		}
-    		else
-    		{
-    			//score was not updated
-    			return false;
-    		}
-    	}
+    	//if the score exists, the time has to be less to update
+    	if (hasScore(level, size) && time >= times[size][level])
+    		return false;
     	
-    	//save the score
-    	save();
+    	//store the time and flag the level solved
+    	times[size][level] = time;
+    	solved.set((size * Levels.TOTAL_LEVELS) + level);
+    	
+    	//save the score, unless we are loading it
+    	if (!loading)
+    		writer.request((size * Levels.TOTAL_LEVELS) + level);
     	
     	//score was updated
     	return true;
     }
     
     /**
-     * Save the scores to the internal storage
+     * Get the number of scores
+     * @return The number of levels solved, of every size
+     */
+    protected synchronized int getCount()
+    {
+        return solved.cardinality();
+    }
+    
+    /**
+     * Save every score to the internal storage.<br>
+     * This returns right away, the journal is compacted by a background thread
      */
     @Override
     public void save()
     {
-        //remove all existing content
-        super.getContent().delete(0, super.getContent().length());
-        
-        for (Score score : scores)
-        {
-            //if content exists, add delimiter to separate each score
-            if (super.getContent().length() > 0)
-                super.getContent().append(NEW_SCORE);
-            
-            //write level, size, and time
-            super.getContent().append(score.getLevel());
-            super.getContent().append(SEPARATOR);
-            super.getContent().append(score.getSize());
-            super.getContent().append(SEPARATOR);
-            super.getContent().append(score.getTime());
-        }
-        
-        //save the content to physical internal storage location
-        super.save();
+        if (writer != null)
+            writer.requestCompact();
     }
     
     @Override
@@ -188,10 +221,19 @@ public final class ScoreCard extends Internal
     {
         super.dispose();
         
-        if (scores != null)
+        //write any pending scores before we stop
+        if (writer != null)
+        {
+            writer.finish();
+            writer = null;
+        }
+        
+        times = null;
+        
+        if (solved != null)
         {
-            scores.clear();
-            scores = null;
+            solved.clear();
+            solved = null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,340 @@
+package com.gamesbykevin.maze.scorecard;
+
+import android.app.Activity;
+
+import com.gamesbykevin.maze.labyrinth.Labyrinth;
+import com.gamesbykevin.maze.level.Levels;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+/**
+ * The scores saved as an append only log of fixed width binary records.<br>
+ * Each record is the level (int), size (byte), time (long), followed by the CRC32 (int) of those bytes.<br>
+ * A new best time appends a single record, the latest record of a level and size wins when the log is read.<br>
+ * When the log holds too many old records it is compacted, every score is written to a temporary file that is renamed over the log.
+ * @author GOD
+ */
+final class ScoreJournal
+{
+    /**
+     * The number of bytes in each record
+     */
+    private static final int RECORD_SIZE = 4 + 1 + 8 + 4;
+
+    /**
+     * The number of bytes in each record covered by the CRC
+     */
+    private static final int RECORD_DATA = RECORD_SIZE - 4;
+
+    /**
+     * The number of old records allowed before we compact, in addition to one for each score
+     */
+    private static final int COMPACT_MINIMUM = 64;
+
+    /**
+     * The extension of the temporary file we write when compacting
+     */
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    //the log file, and the file we write before renaming
+    private final File file, temp;
+
+    //the file the scores were saved in before the log, removed once the log is written
+    private final File legacy;
+
+    //the bytes of a single record, reused for every record
+    private final byte[] record = new byte[RECORD_SIZE];
+
+    //the checksum of a record
+    private final CRC32 crc = new CRC32();
+
+    //the number of records in the log
+    private int records = 0;
+
+    /**
+     * Create a new journal
+     * @param activity Activity used to locate the internal storage
+     * @param filename The name of the log file
+     * @param legacyFilename The name of the file the scores were saved in before the log
+     */
+    protected ScoreJournal(final Activity activity, final String filename, final String legacyFilename)
+    {
+        this.file = activity.getFileStreamPath(filename);
+        this.temp = activity.getFileStreamPath(filename + TEMP_EXTENSION);
+        this.legacy = activity.getFileStreamPath(legacyFilename);
+    }
+
+    /**
+     * Does the log exist?
+     * @return true if the log file exists, false otherwise
+     */
+    protected boolean exists()
+    {
+        return file.exists();
+    }
+
+    /**
+     * Read every record in the log and add it to the score card.<br>
+     * The log is read one record at a time, if a record is incomplete or the CRC does not match we stop reading
+     * @param scorecard The score card to add the scores to
+     * @return true if every record was read, false if the log is damaged and needs to be compacted
+     */
+    protected boolean read(final ScoreCard scorecard)
+    {
+        InputStream in = null;
+
+        //no records have been read yet
+        records = 0;
+
+        try
+        {
+            in = new BufferedInputStream(new FileInputStream(file));
+
+            while (true)
+            {
+                //read the next record
+                int count = 0;
+
+                while (count < RECORD_SIZE)
+                {
+                    final int result = in.read(record, count, RECORD_SIZE - count);
+
+                    if (result < 0)
+                        break;
+
+                    count += result;
+                }
+
+                //if we are at the end of the log, every record was read
+                if (count == 0)
+                    return true;
+
+                //if the record is incomplete or damaged, stop here
+                if (count < RECORD_SIZE || getInt(RECORD_DATA) != getChecksum())
+                    return false;
+
+                //add the score
+                scorecard.update(getInt(0), record[4], getLong(5));
+
+                records++;
+            }
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+
+            //we don't know how much of the log is good
+            return false;
+        }
+        finally
+        {
+            close(in);
+        }
+    }
+
+    /**
+     * Add a record to the end of the log for every specified score
+     * @param scorecard The score card we are saving
+     * @param indexes The index of each score to add (size * Levels.TOTAL_LEVELS) + level
+     */
+    protected void append(final ScoreCard scorecard, final BitSet indexes)
+    {
+        FileOutputStream out = null;
+
+        try
+        {
+            out = new FileOutputStream(file, true);
+
+            for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1))
+            {
+                if (write(out, scorecard, index))
+                    records++;
+            }
+
+            //make sure the records are on the disk
+            out.getFD().sync();
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+        finally
+        {
+            close(out);
+        }
+    }
+
+    /**
+     * Do we need to compact the log?
+     * @param scores The number of scores on the score card
+     * @return true if the log holds too many old records, false otherwise
+     */
+    protected boolean isCompactRequired(final int scores)
+    {
+        return (records - scores > Math.max(scores, COMPACT_MINIMUM));
+    }
+
+    /**
+     * Replace the log with a single record for every score.<br>
+     * The records are written to a temporary file that is renamed over the log, so a crash never leaves a partial log
+     * @param scorecard The score card we are saving
+     */
+    protected void compact(final ScoreCard scorecard)
+    {
+        FileOutputStream out = null;
+
+        try
+        {
+            out = new FileOutputStream(temp);
+
+            final BufferedOutputStream buffer = new BufferedOutputStream(out);
+
+            int count = 0;
+
+            //write every score
+            for (int index = 0; index < Labyrinth.SIZES * Levels.TOTAL_LEVELS; index++)
+            {
+                if (write(buffer, scorecard, index))
+                    count++;
+            }
+
+            //make sure the records are on the disk before we rename
+            buffer.flush();
+            out.getFD().sync();
+            out.close();
+            out = null;
+
+            //replacing the file is atomic, it has the old log or the new log
+            if (!temp.renameTo(file))
+                throw new IOException("Unable to rename " + temp + " to " + file);
+
+            //the log now has one record for each score
+            records = count;
+
+            //the scores are in the log, we don't need the old file
+            if (legacy.exists())
+                legacy.delete();
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+        finally
+        {
+            close(out);
+        }
+    }
+
+    /**
+     * Write the record of a score
+     * @param out The stream to write to
+     * @param scorecard The score card we are saving
+     * @param index The index of the score (size * Levels.TOTAL_LEVELS) + level
+     * @return true if the record was written, false if there is no score
+     * @throws IOException If the record could not be written
+     */
+    private boolean write(final OutputStream out, final ScoreCard scorecard, final int index) throws IOException
+    {
+        final int level = index % Levels.TOTAL_LEVELS;
+        final int size = index / Levels.TOTAL_LEVELS;
+        final long time = scorecard.getTime(level, size);
+
+        //if there is no score there is nothing to write
+        if (time == ScoreCard.NONE)
+            return false;
+
+        setInt(0, level);
+        record[4] = (byte)size;
+        setLong(5, time);
+        setInt(RECORD_DATA, getChecksum());
+
+        out.write(record, 0, RECORD_SIZE);
+
+        return true;
+    }
+
+    /**
+     * Get the checksum of the record
+     * @return The CRC32 of the level, size, and time
+     */
+    private int getChecksum()
+    {
+        crc.reset();
+        crc.update(record, 0, RECORD_DATA);
+
+        return (int)crc.getValue();
+    }
+
+    /**
+     * Get an int from the record
+     * @param offset The position of the first byte
+     * @return The int stored with the most significant byte first
+     */
+    private int getInt(final int offset)
+    {
+        return ((record[offset] & 0xff) << 24) | ((record[offset + 1] & 0xff) << 16) | ((record[offset + 2] & 0xff) << 8) | (record[offset + 3] & 0xff);
+    }
+
+    /**
+     * Get a long from the record
+     * @param offset The position of the first byte
+     * @return The long stored with the most significant byte first
+     */
+    private long getLong(final int offset)
+    {
+        return ((long)getInt(offset) << 32) | (getInt(offset + 4) & 0xffffffffL);
+    }
+
+    /**
+     * Store an int in the record
+     * @param offset The position of the first byte
+     * @param value The int to store, the most significant byte first
+     */
+    private void setInt(final int offset, final int value)
+    {
+        record[offset] = (byte)(value >>> 24);
+        record[offset + 1] = (byte)(value >>> 16);
+        record[offset + 2] = (byte)(value >>> 8);
+        record[offset + 3] = (byte)value;
+    }
+
+    /**
+     * Store a long in the record
+     * @param offset The position of the first byte
+     * @param value The long to store, the most significant byte first
+     */
+    private void setLong(final int offset, final long value)
+    {
+        setInt(offset, (int)(value >>> 32));
+        setInt(offset + 4, (int)value);
+    }
+
+    /**
+     * Close the stream
+     * @param stream The stream to close, may be null
+     */
+    private static void close(final Closeable stream)
+    {
+        if (stream == null)
+            return;
+
+        try
+        {
+            stream.close();
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.gamesbykevin.maze.scorecard;
+
+import java.util.BitSet;
+
+/**
+ * The thread writing the score card to the internal storage.<br>
+ * Requests are coalesced, if a score changes several times before we get to write only the latest time is written.<br>
+ * Each new score is appended to the journal, and the journal is compacted when it holds too many old records.
+ * @author GOD
+ */
+final class ScoreWriter extends Thread
+{
+    //the score card we are writing
+    private final ScoreCard scorecard;
+
+    //the journal the scores are written to
+    private final ScoreJournal journal;
+
+    //the lock used to wait for a request
+    private final Object lock = new Object();
+
+    //the scores that need to be written, indexed by (size * Levels.TOTAL_LEVELS) + level
+    private final BitSet pending = new BitSet();
+
+    //the scores we are writing, so requests can continue while we write
+    private final BitSet batch = new BitSet();
+
+    //does every score need to be written
+    private boolean compact = false;
+
+    //are we still accepting requests
+    private boolean running = true;
+
+    /**
+     * Create a new writer
+     * @param scorecard The score card we are writing
+     * @param journal The journal the scores are written to
+     */
+    protected ScoreWriter(final ScoreCard scorecard, final ScoreJournal journal)
+    {
+        super("ScoreWriter");
+
+        //store our references
+        this.scorecard = scorecard;
+        this.journal = journal;
+
+        //we don't want to keep the application alive
+        setDaemon(true);
+    }
+
+    /**
+     * Request a score be written.<br>
+     * This returns right away, the score will be written on this thread
+     * @param index The index of the score (size * Levels.TOTAL_LEVELS) + level
+     */
+    protected void request(final int index)
+    {
+        synchronized (lock)
+        {
+            pending.set(index);
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Request every score be written.<br>
+     * This returns right away, the journal will be compacted on this thread
+     */
+    protected void requestCompact()
+    {
+        synchronized (lock)
+        {
+            compact = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stop accepting requests.<br>
+     * Any pending request is written before this returns
+     */
+    protected void finish()
+    {
+        synchronized (lock)
+        {
+            running = false;
+            lock.notifyAll();
+        }
+
+        try
+        {
+            join();
+        }
+        catch (InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        while (true)
+        {
+            //do we write every score
+            final boolean full;
+
+            synchronized (lock)
+            {
+                //wait until there is something to write
+                while (pending.isEmpty() && !compact && running)
+                {
+                    try
+                    {
+                        lock.wait();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        e.printStackTrace();
+                    }
+                }
+
+                //if nothing is pending we are done
+                if (pending.isEmpty() && !compact)
+                    break;
+
+                //take the requests, any request from here on will need another write
+                batch.clear();
+                batch.or(pending);
+                pending.clear();
+
+                full = compact;
+                compact = false;
+            }
+
+            if (full)
+            {
+                //compacting writes every score, including the batch
+                journal.compact(scorecard);
+            }
+            else
+            {
+                //add the new scores to the journal
+                journal.append(scorecard, batch);
+
+                //if the journal has too many old records, compact it
+                if (journal.isCompactRequired(scorecard.getCount()))
+                    journal.compact(scorecard);
+            }
+        }
+    }
+}
\ No newline at end of file
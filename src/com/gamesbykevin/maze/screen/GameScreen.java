@@ -22,13 +22,14 @@ public class GameScreen implements Screen, Disposable
         this.screen = screen;
     }
     
-    protected Game getGame()
+    public Game getGame()
     {
         return this.game;
     }
     
     /**
-     * Create game object
+     * Create game object.<br>
+     * If the game already exists it is kept, only the sprites released at the menu are created again
      * @throws Exception
      */
     public void createGame() throws Exception
@@ -36,6 +37,9 @@ public class GameScreen implements Screen, Disposable
         if (getGame() == null)
             this.game = new Game(screen);
         
+        //create the sprites (if released)
+        getGame().createSprites();
+        
         //reset the game
         getGame().reset();
     }
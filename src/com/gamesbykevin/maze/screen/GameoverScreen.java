@@ -16,6 +16,7 @@ import com.gamesbykevin.maze.MainActivity;
 import com.gamesbykevin.maze.assets.Assets;
 import com.gamesbykevin.maze.game.GameHelper;
 import com.gamesbykevin.maze.panel.GamePanel;
+import com.gamesbykevin.maze.thread.GameClock;
 
 /**
  * The game over screen
@@ -115,7 +116,7 @@ public class GameoverScreen implements Screen, Disposable
     public void reset()
     {
         //reset timer
-        time = System.currentTimeMillis();
+        time = GameClock.currentTimeMillis();
         
         //do we display the menu
         display = false;
@@ -237,7 +238,7 @@ public class GameoverScreen implements Screen, Disposable
         if (!display)
         {
             //if time has passed display menu
-            if (System.currentTimeMillis() - time >= DELAY_MENU_DISPLAY)
+            if (GameClock.currentTimeMillis() - time >= DELAY_MENU_DISPLAY)
             {
                 display = true;
 
@@ -280,7 +280,7 @@ public class MenuScreen implements Screen, Disposable
         if (reset && notify)
         {
             //load game assets
-            Assets.load(screen.getPanel().getActivity());
+            Assets.loadGame(screen.getPanel().getActivity());
 
             //create the game
             screen.getScreenGame().createGame();
@@ -49,6 +49,11 @@ public class OptionsScreen implements Screen, Disposable
     public static final int INDEX_BUTTON_INSTRUCTIONS = 5;
     public static final int INDEX_BUTTON_FACEBOOK = 6;
     public static final int INDEX_BUTTON_TWITTER = 7;
+    public static final int INDEX_BUTTON_OPPONENT = 8;
+    
+    //the location of the first icon and the space between each icon, they are next to the logo
+    private static final int ICON_X = 545;
+    private static final int ICON_SPACING = 5;
     
     public OptionsScreen(final ScreenManager screen)
     {
@@ -86,16 +91,22 @@ public class OptionsScreen implements Screen, Disposable
         x += ScreenManager.BUTTON_X_INCREMENT;
         addButtonSize(x, y);
         
+        x += ScreenManager.BUTTON_X_INCREMENT;
+        addButtonOpponent(x, y);
+        
+        //the icons are in the top right corner
+        x = ICON_X;
+        y = ScreenManager.LOGO_Y;
+        
         //add instructions button
-        x += ScreenManager.BUTTON_X_INCREMENT - 15;
         addIcon(x, y, INDEX_BUTTON_INSTRUCTIONS, Assets.ImageMenuKey.Instructions);
         
         //add face book button
-        x += MenuScreen.ICON_DIMENSION + 10;
+        x += MenuScreen.ICON_DIMENSION + ICON_SPACING;
         addIcon(x, y, INDEX_BUTTON_FACEBOOK, Assets.ImageMenuKey.Facebook);
         		
         //add twitter button
-        x += MenuScreen.ICON_DIMENSION + 10;
+        x += MenuScreen.ICON_DIMENSION + ICON_SPACING;
         addIcon(x, y, INDEX_BUTTON_TWITTER, Assets.ImageMenuKey.Twitter);
         
         //create our settings object last, which will load the previous settings
@@ -163,6 +174,28 @@ public class OptionsScreen implements Screen, Disposable
         this.buttons.put(INDEX_BUTTON_SIZE, button);
     }
     
+    /**
+     * Add the button to choose how the computer solves the maze in versus mode.<br>
+     * The descriptions are in the same order as Cpu.Strategy
+     * @param x x-coordinate
+     * @param y y-coordinate
+     */
+    private void addButtonOpponent(int x, int y)
+    {
+        Button button = new Button(Images.getImage(Assets.ImageMenuKey.Button));
+        button.addDescription("Cpu: Depth First");
+        button.addDescription("Cpu: Wall Follow");
+        button.addDescription("Cpu: Tremaux");
+        button.addDescription("Cpu: Dead Ends");
+        button.addDescription("Cpu: A Star");
+        button.setX(x);
+        button.setY(y);
+        button.updateBounds();
+        button.positionText(paint);
+        
+        this.buttons.put(INDEX_BUTTON_OPPONENT, button);
+    }
+    
     private void addButtonBack(int x, int y)
     {
         //the back button
@@ -250,6 +283,7 @@ public class OptionsScreen implements Screen, Disposable
 	    			case INDEX_BUTTON_RENDER:
 	    			case INDEX_BUTTON_MODE:
 	    			case INDEX_BUTTON_SIZE:
+	    			case INDEX_BUTTON_OPPONENT:
 			        	button.positionText(paint);
 			        	break;
 			        	
@@ -340,6 +374,7 @@ public class OptionsScreen implements Screen, Disposable
                         
     				case INDEX_BUTTON_SIZE:
     				case INDEX_BUTTON_MODE:
+    				case INDEX_BUTTON_OPPONENT:
     	    			
     					//change index
     					button.setIndex(button.getIndex() + 1);
@@ -422,6 +457,7 @@ public class OptionsScreen implements Screen, Disposable
     			case INDEX_BUTTON_RENDER:
     			case INDEX_BUTTON_MODE:
     			case INDEX_BUTTON_SIZE:
+    			case INDEX_BUTTON_OPPONENT:
     				button.render(canvas, screen.getPaint());
     				break;
     				
@@ -153,9 +153,29 @@ public final class ScreenManager implements Screen, Disposable
     @Override
     public void update() throws Exception
     {
+        //once we are back at the menu, the game images are no longer needed
+        if (getState() == State.Ready && getScreenGame().getGame() != null && getScreenGame().getGame().hasSprites())
+            releaseGame();
+        
         getScreen(getState()).update();
     }
     
+    /**
+     * Dispose the game sprites and recycle the game images.<br>
+     * The game itself is kept, the images and sprites are created again when the next game starts.<br>
+     * Nothing here touches the storage, so the render thread only waits for the bitmaps to be recycled
+     */
+    private void releaseGame()
+    {
+        //make sure the game isn't being drawn while we remove its sprites
+        synchronized (getPanel().getRenderLock())
+        {
+            getScreenGame().getGame().releaseSprites();
+            
+            Assets.recycleGame();
+        }
+    }
+    
     /**
      * Get the game panel
      * @return Our game panel object reference
@@ -230,6 +250,20 @@ public final class ScreenManager implements Screen, Disposable
 	                //reset screen
 	                getScreen(state).reset();
 	            }
+	            
+	            //while the user decides, start generating the next level
+	            if (getScreenGame() != null && getScreenGame().getGame() != null)
+	            {
+	            	try
+	            	{
+	            		getScreenGame().getGame().getLabyrinth().prefetchNextLevel();
+	            	}
+	            	catch (Exception e)
+	            	{
+	            		//the next level will be generated when selected instead
+	            		e.printStackTrace();
+	            	}
+	            }
 	        }
 	        
 	        //if we are not running
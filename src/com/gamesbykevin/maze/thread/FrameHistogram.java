@@ -0,0 +1,161 @@
+package com.gamesbykevin.maze.thread;
+
+import java.util.Arrays;
+
+import com.gamesbykevin.androidframework.anim.Animation;
+
+/**
+ * Keep the most recent durations of one part of the game loop.<br>
+ * The samples are stored in a ring buffer so nothing is allocated each frame.<br>
+ * The percentiles are only calculated when requested, not every frame.<br>
+ * The update and render threads each add their own samples, so access is synchronized.
+ * @author GOD
+ */
+public final class FrameHistogram
+{
+    /**
+     * The number of samples we keep, this covers several seconds of frames
+     */
+    public static final int CAPACITY = 128;
+
+    //the name of the part of the game loop
+    private final String name;
+
+    //the most recent durations (nanoseconds)
+    private final long[] samples;
+
+    //the samples are copied here to be sorted
+    private final long[] sorted;
+
+    //where the next sample will be stored
+    private int index = 0;
+
+    //the number of samples stored
+    private int count = 0;
+
+    //the calculated percentiles (nanoseconds)
+    private long percentile50, percentile95, percentile99, maximum;
+
+    /**
+     * Create a new histogram
+     * @param name The name of the part of the game loop we are measuring
+     */
+    public FrameHistogram(final String name)
+    {
+        this.name = name;
+        this.samples = new long[CAPACITY];
+        this.sorted = new long[CAPACITY];
+    }
+
+    /**
+     * Add a sample, replacing the oldest sample once we are full
+     * @param nanoseconds The duration (nanoseconds)
+     */
+    public synchronized void add(final long nanoseconds)
+    {
+        samples[index] = nanoseconds;
+
+        //move to the next position
+        index = (index + 1) % CAPACITY;
+
+        if (count < CAPACITY)
+            count++;
+    }
+
+    /**
+     * Calculate the percentiles of the samples we have
+     */
+    public synchronized void calculate()
+    {
+        //if there are no samples there is nothing to calculate
+        if (count == 0)
+            return;
+
+        //sort a copy so the order of the ring buffer is kept
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        this.percentile50 = getPercentile(50);
+        this.percentile95 = getPercentile(95);
+        this.percentile99 = getPercentile(99);
+        this.maximum = sorted[count - 1];
+    }
+
+    /**
+     * Get the percentile from the sorted samples
+     * @param percent The percentile we want (0 - 100)
+     * @return The duration (nanoseconds)
+     */
+    private long getPercentile(final int percent)
+    {
+        return sorted[Math.min(count - 1, (count * percent) / 100)];
+    }
+
+    /**
+     * Get the name
+     * @return The name of the part of the game loop we are measuring
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Get the 50th percentile, calculated at the last call to calculate()
+     * @return The duration (nanoseconds)
+     */
+    public synchronized long getPercentile50()
+    {
+        return this.percentile50;
+    }
+
+    /**
+     * Get the 95th percentile, calculated at the last call to calculate()
+     * @return The duration (nanoseconds)
+     */
+    public synchronized long getPercentile95()
+    {
+        return this.percentile95;
+    }
+
+    /**
+     * Get the 99th percentile, calculated at the last call to calculate()
+     * @return The duration (nanoseconds)
+     */
+    public synchronized long getPercentile99()
+    {
+        return this.percentile99;
+    }
+
+    /**
+     * Get the longest duration, calculated at the last call to calculate()
+     * @return The duration (nanoseconds)
+     */
+    public synchronized long getMaximum()
+    {
+        return this.maximum;
+    }
+
+    /**
+     * Get a description of the calculated percentiles
+     * @return The percentiles in milliseconds
+     */
+    public synchronized String getDescription()
+    {
+        return name +
+            " p50 " + toMilliseconds(percentile50) +
+            " p95 " + toMilliseconds(percentile95) +
+            " p99 " + toMilliseconds(percentile99) +
+            " max " + toMilliseconds(maximum) + " ms";
+    }
+
+    /**
+     * Convert to milliseconds with one decimal place
+     * @param nanoseconds The duration (nanoseconds)
+     * @return The duration (milliseconds)
+     */
+    private static double toMilliseconds(final long nanoseconds)
+    {
+        return (nanoseconds / (Animation.NANO_SECONDS_PER_MILLISECOND / 10)) / 10.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.gamesbykevin.maze.thread;
+
+/**
+ * The clock the game logic reads the time from.<br>
+ * The game uses the system time, a test harness can assign its own clock to run the game ticks faster than real time.<br>
+ * Only the game logic reads this clock, the threads still measure their frame times with the system time
+ * @author GOD
+ */
+public class GameClock
+{
+    //the clock the game is reading, the update and render threads both read it
+    private static volatile GameClock clock = new GameClock();
+
+    /**
+     * Assign the clock the game reads the time from
+     * @param clock The desired clock, null to use the system time again
+     */
+    public static void setClock(final GameClock clock)
+    {
+        GameClock.clock = (clock != null) ? clock : new GameClock();
+    }
+
+    /**
+     * Get the current time of the game clock
+     * @return The current time (milliseconds)
+     */
+    public static long currentTimeMillis()
+    {
+        return clock.getTimeMillis();
+    }
+
+    /**
+     * Get the current time of the game clock
+     * @return The current time (nanoseconds), only used to measure elapsed time
+     */
+    public static long nanoTime()
+    {
+        return clock.getTimeNanos();
+    }
+
+    /**
+     * Get the time of this clock
+     * @return The current time (milliseconds)
+     */
+    protected long getTimeMillis()
+    {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Get the time of this clock
+     * @return The current time (nanoseconds)
+     */
+    protected long getTimeNanos()
+    {
+        return System.nanoTime();
+    }
+}
\ No newline at end of file
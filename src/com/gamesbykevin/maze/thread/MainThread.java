@@ -1,12 +1,15 @@
 package com.gamesbykevin.maze.thread;
 
 import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
 import android.view.SurfaceHolder;
 import com.gamesbykevin.androidframework.anim.Animation;
 import com.gamesbykevin.maze.panel.GamePanel;
 
 /**
- * Our main thread containing the game loop
+ * Our main thread containing the render loop.<br>
+ * The game logic runs at the same time on the update thread we start
  * @author ABRAHAM
  */
 public class MainThread extends Thread
@@ -16,17 +19,36 @@ public class MainThread extends Thread
      */
     public static final boolean DEBUG = true;
     
-    //the assigned frames per second for this game
+    //the assigned frames per second for this game, the game logic is always updated at this rate
     public static final int FPS = 30;
     
+    /**
+     * The rate we try to render, the players are interpolated between the game ticks
+     */
+    public static final int RENDER_FPS = 60;
+    
+    /**
+     * The duration of a single game tick (nanoseconds)
+     */
+    public static final long TICK_DURATION = (Animation.NANO_SECONDS_PER_MILLISECOND * Animation.MILLISECONDS_PER_SECOND) / FPS;
+    
+    /**
+     * The most game ticks we will run at once.<br>
+     * If we fall further behind, the extra time is dropped so we don't spend every tick catching up
+     */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+    
     //our game panel
     private final GamePanel panel;
     
+    //the thread running the game logic
+    private final UpdateThread updater;
+    
     //area where game play is rendered
     private final SurfaceHolder holder;
     
     //is the thread running
-    private boolean running;
+    private volatile boolean running;
     
     //our canvas to render image(s)
     private Canvas canvas;
@@ -38,7 +60,32 @@ public class MainThread extends Thread
     public static final int COMPLETE_THREAD_ATTEMPTS = 1000;
     
     //do we pause the update/render
-    private boolean pause = false;
+    private volatile boolean pause = false;
+    
+    //the thread waits on this object while paused
+    private final Object pauseLock = new Object();
+    
+    /**
+     * The location and spacing of the frame time overlay
+     */
+    private static final int OVERLAY_X = 10;
+    private static final int OVERLAY_Y = 20;
+    private static final int OVERLAY_SPACING = 18;
+    
+    //the time spent on each part of the game loop
+    private final FrameHistogram lockTime, updateTime, drawTime, unlockTime, sleepTime, frameTime;
+    
+    //each histogram in the order they are displayed
+    private final FrameHistogram[] histograms;
+    
+    //the description of each histogram, only updated when the percentiles are calculated
+    private final String[] descriptions;
+    
+    //do we render the frame times on top of the game
+    private boolean overlay = false;
+    
+    //paint object to draw the frame times
+    private final Paint paint;
     
     public MainThread(SurfaceHolder holder, GamePanel panel)
     {
@@ -50,6 +97,24 @@ public class MainThread extends Thread
         
         //assign game panel reference object
         this.panel = panel;
+        
+        //create the thread for the game logic, it is started when we start
+        this.updater = new UpdateThread(this, panel);
+        
+        //create the histograms for each part of the game loop
+        this.lockTime = new FrameHistogram("lock");
+        this.updateTime = updater.getUpdateTime();
+        this.drawTime = new FrameHistogram("draw");
+        this.unlockTime = new FrameHistogram("unlock");
+        this.sleepTime = new FrameHistogram("sleep");
+        this.frameTime = new FrameHistogram("frame");
+        this.histograms = new FrameHistogram[] {lockTime, updateTime, drawTime, unlockTime, sleepTime, frameTime};
+        this.descriptions = new String[histograms.length];
+        
+        //paint for the overlay
+        this.paint = new Paint();
+        this.paint.setColor(Color.YELLOW);
+        this.paint.setTextSize(14f);
     }
     
     @Override
@@ -61,8 +126,14 @@ public class MainThread extends Thread
         //the frame count
         int frames = 0;
         
-        //the expected amount of time per each update
-        final long targetTime = (Animation.MILLISECONDS_PER_SECOND / FPS);
+        //the frame count since the histograms were calculated
+        int samples = 0;
+        
+        //the expected amount of time per each render
+        final long targetTime = (Animation.MILLISECONDS_PER_SECOND / RENDER_FPS);
+        
+        //start the game logic
+        updater.start();
         
         try
         {
@@ -71,9 +142,18 @@ public class MainThread extends Thread
             {
             	//if the game is paused we won't continue
             	if (isPaused())
+            	{
+            		//wait until we are resumed or stopped
+            		waitWhilePaused();
+            		
+            		//start counting again so the time paused isn't included
+            		frames = 0;
+            		totalTime = 0;
+            		samples = 0;
             		continue;
+            	}
             	
-                //get the start time of this update
+                //get the start time of this frame
                 final long startTime = System.nanoTime();
 
                 //assign the canvas null
@@ -82,17 +162,25 @@ public class MainThread extends Thread
                 try 
                 {
                     //attempt to lock the canvas to edit the pixels of the surface
+                    long time = System.nanoTime();
                 	setCanvas(getHolder().lockCanvas());
+                	lockTime.add(System.nanoTime() - time);
 
-                    //make sure no other threads are accessing the holder
-                    synchronized (getHolder())
+                    //the update thread won't remove anything we draw while we hold the render lock
+                    synchronized (getPanel().getRenderLock())
                     {
-                        //update our game panel
-                        getPanel().update();
-
                         //if the canvas object was obtained and we did not pause, render
                         if (getCanvas() != null && !isPaused())
+                        {
+                            time = System.nanoTime();
                             getPanel().draw(getCanvas());
+                            
+                            //render the frame times on top (if enabled)
+                            if (hasOverlay())
+                                renderOverlay(getCanvas());
+                            
+                            drawTime.add(System.nanoTime() - time);
+                        }
                     }
                 }
                 catch (Exception e)
@@ -107,7 +195,9 @@ public class MainThread extends Thread
                         try
                         {
                             //render the pixels on the canvas to the screen
+                            final long time = System.nanoTime();
                         	getHolder().unlockCanvasAndPost(getCanvas());
+                        	unlockTime.add(System.nanoTime() - time);
                         }
                         catch (Exception e)
                         {
@@ -129,12 +219,24 @@ public class MainThread extends Thread
                 try
                 {
                     //sleep the thread
+                    final long time = System.nanoTime();
                     sleep(waitTime);
+                    sleepTime.add(System.nanoTime() - time);
                 }
                 catch (Exception e)
                 {
                     e.printStackTrace();
                 }
+                
+                //track the time of the entire frame
+                frameTime.add(System.nanoTime() - startTime);
+                
+                //calculate the percentiles once per second, not every frame
+                if (++samples == RENDER_FPS)
+                {
+                	samples = 0;
+                	calculateHistograms();
+                }
 
                 //if we are debugging, print the fps
                 if (DEBUG)
@@ -145,8 +247,8 @@ public class MainThread extends Thread
                     //increase the frame count
                     frames++;
 
-                    //if the frame count = the assigned fps
-                    if (frames == FPS)
+                    //if the frame count = the assigned render fps
+                    if (frames == RENDER_FPS)
                     {
                         //calculate the average fps
                         final double fpsAverage = (double)Animation.MILLISECONDS_PER_SECOND / ((double)(totalTime / frames) / Animation.NANO_SECONDS_PER_MILLISECOND);
@@ -168,6 +270,141 @@ public class MainThread extends Thread
 
         //stop thread
         this.setRunning(false);
+        
+        try
+        {
+            //wait for the game logic to finish
+            updater.join();
+        }
+        catch (InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Block the thread while paused, without using the cpu.<br>
+     * We are woken when the pause is removed or the thread is stopped.<br>
+     * The update thread waits here as well
+     */
+    protected void waitWhilePaused()
+    {
+    	synchronized (pauseLock)
+    	{
+    		while (isPaused() && isRunning())
+    		{
+    			try
+    			{
+    				pauseLock.wait();
+    			}
+    			catch (InterruptedException e)
+    			{
+    				e.printStackTrace();
+    			}
+    		}
+    	}
+    }
+    
+    /**
+     * Calculate the percentiles of each histogram, and update the overlay descriptions (if enabled)
+     */
+    private void calculateHistograms()
+    {
+    	for (int i = 0; i < histograms.length; i++)
+    	{
+    		//the update histogram is filled by the update thread, the histogram handles the synchronization
+    		histograms[i].calculate();
+    		
+    		//only create the descriptions when they are displayed
+    		if (hasOverlay())
+    			descriptions[i] = histograms[i].getDescription();
+    	}
+    }
+    
+    /**
+     * Render the frame times
+     * @param canvas Object to write pixel data
+     */
+    private void renderOverlay(final Canvas canvas)
+    {
+    	for (int i = 0; i < descriptions.length; i++)
+    	{
+    		//the descriptions won't exist until the percentiles are calculated
+    		if (descriptions[i] != null)
+    			canvas.drawText(descriptions[i], OVERLAY_X, OVERLAY_Y + (i * OVERLAY_SPACING), paint);
+    	}
+    }
+    
+    /**
+     * Assign the frame time overlay
+     * @param overlay true to render the frame times on top of the game, false otherwise
+     */
+    public void setOverlay(final boolean overlay)
+    {
+    	this.overlay = overlay;
+    }
+    
+    /**
+     * Do we render the frame time overlay?
+     * @return true = yes, false = no
+     */
+    public boolean hasOverlay()
+    {
+    	return this.overlay;
+    }
+    
+    /**
+     * Get the time spent locking the canvas
+     * @return The histogram of lockCanvas() durations
+     */
+    public FrameHistogram getLockTime()
+    {
+    	return this.lockTime;
+    }
+    
+    /**
+     * Get the time spent updating
+     * @return The histogram of the game panel update durations
+     */
+    public FrameHistogram getUpdateTime()
+    {
+    	return this.updateTime;
+    }
+    
+    /**
+     * Get the time spent drawing
+     * @return The histogram of the game panel draw durations
+     */
+    public FrameHistogram getDrawTime()
+    {
+    	return this.drawTime;
+    }
+    
+    /**
+     * Get the time spent posting the canvas
+     * @return The histogram of unlockCanvasAndPost() durations
+     */
+    public FrameHistogram getUnlockTime()
+    {
+    	return this.unlockTime;
+    }
+    
+    /**
+     * Get the time spent sleeping
+     * @return The histogram of the sleep durations between frames
+     */
+    public FrameHistogram getSleepTime()
+    {
+    	return this.sleepTime;
+    }
+    
+    /**
+     * Get the time of each frame
+     * @return The histogram of the entire frame durations including the sleep
+     */
+    public FrameHistogram getFrameTime()
+    {
+    	return this.frameTime;
     }
     
     /**
@@ -177,7 +414,13 @@ public class MainThread extends Thread
      */
     public void setPause(final boolean pause)
     {
-    	this.pause = pause;
+    	synchronized (pauseLock)
+    	{
+    		this.pause = pause;
+    		
+    		//wake the thread if it is waiting
+    		pauseLock.notifyAll();
+    	}
     }
     
     /**
@@ -195,7 +438,13 @@ public class MainThread extends Thread
      */
     public void setRunning(final boolean running)
     {
-        this.running = running;
+    	synchronized (pauseLock)
+    	{
+    		this.running = running;
+    		
+    		//wake the thread if it is waiting, so it can finish
+    		pauseLock.notifyAll();
+    	}
     }
     
     /**
@@ -0,0 +1,112 @@
+package com.gamesbykevin.maze.thread;
+
+import com.gamesbykevin.androidframework.anim.Animation;
+import com.gamesbykevin.maze.panel.GamePanel;
+
+/**
+ * The thread running the game logic at a fixed tick rate.<br>
+ * The render thread draws at the same time, using the snapshot published at the end of each tick.<br>
+ * This thread follows the running and pause state of the main thread that created it.
+ * @author GOD
+ */
+final class UpdateThread extends Thread
+{
+    //the render thread that owns us
+    private final MainThread main;
+
+    //our game panel
+    private final GamePanel panel;
+
+    //the time spent on each tick
+    private final FrameHistogram updateTime;
+
+    /**
+     * Create a new update thread
+     * @param main The render thread we follow
+     * @param panel Our game panel
+     */
+    protected UpdateThread(final MainThread main, final GamePanel panel)
+    {
+        super("UpdateThread");
+
+        //store our references
+        this.main = main;
+        this.panel = panel;
+
+        //create the histogram for the update
+        this.updateTime = new FrameHistogram("update");
+    }
+
+    @Override
+    public void run()
+    {
+        //the time not yet simulated by the game ticks (nanoseconds)
+        long accumulator = 0;
+
+        //the time of the previous loop
+        long previousTime = System.nanoTime();
+
+        try
+        {
+            //continue to loop while the main thread is running
+            while (main.isRunning())
+            {
+                //if the game is paused we won't continue
+                if (main.isPaused())
+                {
+                    //wait until we are resumed or stopped
+                    main.waitWhilePaused();
+
+                    //we don't want to catch up on the time paused
+                    accumulator = 0;
+                    previousTime = System.nanoTime();
+                    continue;
+                }
+
+                //add the time elapsed since the previous loop
+                final long startTime = System.nanoTime();
+                accumulator += startTime - previousTime;
+                previousTime = startTime;
+
+                //if we are too far behind, drop the extra time
+                if (accumulator > MainThread.TICK_DURATION * MainThread.MAX_TICKS_PER_FRAME)
+                    accumulator = MainThread.TICK_DURATION * MainThread.MAX_TICKS_PER_FRAME;
+
+                //update our game panel once for every tick that has passed
+                while (accumulator >= MainThread.TICK_DURATION)
+                {
+                    final long time = System.nanoTime();
+                    panel.update();
+                    updateTime.add(System.nanoTime() - time);
+
+                    accumulator -= MainThread.TICK_DURATION;
+                }
+
+                //sleep until the next tick is due, at least 1 millisecond
+                final long waitTime = Math.max(1, (MainThread.TICK_DURATION - accumulator) / Animation.NANO_SECONDS_PER_MILLISECOND);
+
+                try
+                {
+                    sleep(waitTime);
+                }
+                catch (InterruptedException e)
+                {
+                    e.printStackTrace();
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Get the time spent updating
+     * @return The histogram of the game panel update durations
+     */
+    protected FrameHistogram getUpdateTime()
+    {
+        return this.updateTime;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+package com.gamesbykevin.maze.test;
+
+import android.content.Intent;
+import android.os.Debug;
+import android.test.ActivityUnitTestCase;
+import android.util.Log;
+
+import com.gamesbykevin.maze.MainActivity;
+import com.gamesbykevin.maze.game.Game;
+import com.gamesbykevin.maze.screen.OptionsScreen;
+import com.gamesbykevin.maze.screen.ScreenManager.State;
+
+/**
+ * Check the game doesn't create garbage every frame once it has warmed up.<br>
+ * Each state is run through the game harness, every frame is a real update and render.<br>
+ * Only the allocations of this thread are counted, the same as the update and render threads of the game.
+ * @author GOD
+ */
+public final class AllocationBudgetTest extends ActivityUnitTestCase<MainActivity>
+{
+    /**
+     * The tag of the results in the log
+     */
+    private static final String TAG = "AllocationBudget";
+
+    /**
+     * The bytes the menu is allowed to allocate each frame.<br>
+     * Less than a single small object every few frames, only the noise of measuring is allowed
+     */
+    private static final double BUDGET_MENU = 1.0;
+
+    /**
+     * The bytes the level select page is allowed to allocate each frame
+     */
+    private static final double BUDGET_LEVEL_SELECT = 1.0;
+
+    /**
+     * The bytes allowed for each room of the maze while it is generated.<br>
+     * The maze is generated on its own thread, this thread only creates the grid and graph when the maze is handed off
+     */
+    private static final double BUDGET_GENERATION = 256.0;
+
+    /**
+     * The bytes the count down and play are allowed to allocate each frame
+     */
+    private static final double BUDGET_PLAY = 1.0;
+
+    /**
+     * The bytes the game over screen is allowed to allocate each frame
+     */
+    private static final double BUDGET_GAMEOVER = 1.0;
+
+    /**
+     * The number of frames run before we start measuring a state, so the code is warmed up
+     */
+    private static final int WARMUP_FRAMES = 500;
+
+    /**
+     * The number of frames measured for a state
+     */
+    private static final int FRAMES = 2000;
+
+    /**
+     * The most frames we will allow for a maze to be generated and solved
+     */
+    private static final int FRAMES_LIMIT = 100000;
+
+    /**
+     * The seed so the same mazes are played each run
+     */
+    private static final long SEED = 0;
+
+    /**
+     * The size index of the mazes
+     */
+    private static final int SIZE = 0;
+
+    //the game we are running
+    private GameHarness harness;
+
+    public AllocationBudgetTest()
+    {
+        super(MainActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        //the activity is created but never displayed, so the game panel never starts
+        startActivity(new Intent(getInstrumentation().getTargetContext(), MainActivity.class), null, null);
+
+        this.harness = new GameHarness(getActivity(), SEED);
+
+        //count the allocations of this thread
+        Debug.startAllocCounting();
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        Debug.stopAllocCounting();
+
+        if (harness != null)
+        {
+            harness.dispose();
+            harness = null;
+        }
+
+        super.tearDown();
+    }
+
+    /**
+     * Run a single frame and count the bytes allocated
+     * @return The bytes allocated by this thread during the frame
+     * @throws Exception
+     */
+    private long frame() throws Exception
+    {
+        Debug.resetThreadAllocSize();
+
+        harness.frame();
+
+        return Debug.getThreadAllocSize();
+    }
+
+    /**
+     * Run frames without counting them
+     * @param frames The number of frames to run
+     * @param state The state we expect to stay in
+     * @throws Exception
+     */
+    private void warmup(final int frames, final State state) throws Exception
+    {
+        for (int i = 0; i < frames; i++)
+        {
+            harness.frame();
+
+            assertEquals("Warming up", state, harness.getState());
+        }
+    }
+
+    /**
+     * Run frames and count the bytes allocated
+     * @param frames The number of frames to run
+     * @param state The state we expect to stay in
+     * @return The bytes allocated each frame
+     * @throws Exception
+     */
+    private double measure(final int frames, final State state) throws Exception
+    {
+        long bytes = 0;
+
+        for (int i = 0; i < frames; i++)
+        {
+            bytes += frame();
+
+            assertEquals("Measuring", state, harness.getState());
+        }
+
+        return (double)bytes / frames;
+    }
+
+    /**
+     * Compare the measurement to the budget, and fail if it is over
+     * @param state The name of the state measured
+     * @param bytes The bytes allocated
+     * @param budget The bytes allowed
+     * @param unit The unit measured
+     */
+    private void check(final String state, final double bytes, final double budget, final String unit)
+    {
+        Log.i(TAG, state + ": " + bytes + " bytes/" + unit + " (budget " + budget + ")");
+
+        assertTrue(state + " allocated " + bytes + " bytes/" + unit + ", the budget is " + budget, bytes <= budget);
+    }
+
+    /**
+     * Run frames until the maze has been generated
+     * @param game The game running
+     * @return The bytes allocated while generating
+     * @throws Exception
+     */
+    private long generate(final Game game) throws Exception
+    {
+        long bytes = 0;
+
+        for (int i = 0; !game.getLabyrinth().isGenerated(); i++)
+        {
+            if (i > FRAMES_LIMIT)
+                fail("The maze was not generated");
+
+            bytes += frame();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Run frames until the maze has been solved
+     * @return The bytes allocated each frame while playing
+     * @throws Exception
+     */
+    private double play() throws Exception
+    {
+        long bytes = 0;
+        int frames = 0;
+
+        while (harness.getState() == State.Running)
+        {
+            if (frames > FRAMES_LIMIT)
+                fail("The maze was not solved");
+
+            bytes += frame();
+            frames++;
+        }
+
+        assertEquals("Solved", State.GameOver, harness.getState());
+
+        return (double)bytes / frames;
+    }
+
+    /**
+     * Measure every state, in the order the user sees them
+     * @throws Exception
+     */
+    public void testBudgets() throws Exception
+    {
+        //the menu
+        warmup(WARMUP_FRAMES, State.Ready);
+        check("Menu", measure(FRAMES, State.Ready), BUDGET_MENU, "frame");
+
+        //casual mode so the level select page is displayed first, 2d so the maze is pre-rendered once when handed off
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_MODE, 0);
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_SIZE, SIZE);
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_RENDER, 1);
+        harness.startGame();
+
+        final Game game = harness.getGame();
+
+        //the level select page
+        warmup(WARMUP_FRAMES, State.Running);
+        check("Level select", measure(FRAMES, State.Running), BUDGET_LEVEL_SELECT, "frame");
+
+        //play the first level to warm up generating and playing
+        harness.selectLevel();
+        generate(game);
+        play();
+
+        //the game over screen, before and after the menu is displayed
+        warmup(WARMUP_FRAMES, State.GameOver);
+        check("Game over", measure(FRAMES, State.GameOver), BUDGET_GAMEOVER, "frame");
+
+        //the next level is generated
+        harness.pressNext();
+
+        final long bytes = generate(game);
+        final int rooms = game.getLabyrinth().getMaze().getCols() * game.getLabyrinth().getMaze().getRows();
+        check("Generation", (double)bytes / rooms, BUDGET_GENERATION, "room");
+
+        //the count down and play
+        check("Play", play(), BUDGET_PLAY, "frame");
+    }
+}
\ No newline at end of file
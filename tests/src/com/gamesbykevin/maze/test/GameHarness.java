@@ -0,0 +1,318 @@
+package com.gamesbykevin.maze.test;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+
+import com.gamesbykevin.androidframework.anim.Animation;
+import com.gamesbykevin.androidframework.resources.Audio;
+import com.gamesbykevin.androidframework.resources.Disposable;
+import com.gamesbykevin.maze.MainActivity;
+import com.gamesbykevin.maze.assets.Assets;
+import com.gamesbykevin.maze.game.Game;
+import com.gamesbykevin.maze.panel.GamePanel;
+import com.gamesbykevin.maze.screen.OptionsScreen;
+import com.gamesbykevin.maze.screen.ScreenManager;
+import com.gamesbykevin.maze.screen.ScreenManager.State;
+import com.gamesbykevin.maze.thread.GameClock;
+import com.gamesbykevin.maze.thread.MainThread;
+
+import java.util.Random;
+
+/**
+ * Run the game without a surface or game threads.<br>
+ * Each tick advances a simulated clock by one game tick and updates the screens, the same as the update thread.<br>
+ * A frame is a tick followed by a render into an off screen bitmap, the same as the render thread.<br>
+ * The panel is never attached to a window, so the real game loop is never started.
+ * @author GOD
+ */
+public final class GameHarness implements Disposable
+{
+    /**
+     * How far inside a button we touch
+     */
+    private static final int BUTTON_OFFSET = 10;
+
+    /**
+     * The location of the first button (Start on the menu, Next on the game over screen)
+     */
+    private static final int FIRST_BUTTON_X = ScreenManager.BUTTON_X + BUTTON_OFFSET;
+    private static final int FIRST_BUTTON_Y = ScreenManager.BUTTON_Y + BUTTON_OFFSET;
+
+    /**
+     * The location of the Menu button on the game over screen
+     */
+    private static final int MENU_BUTTON_X = FIRST_BUTTON_X + (ScreenManager.BUTTON_X_INCREMENT * 2);
+
+    /**
+     * The location of the first level on the level select page
+     */
+    private static final int LEVEL_X = 50;
+    private static final int LEVEL_Y = 50;
+
+    /**
+     * The most ticks we will wait for the game over menu to be displayed
+     */
+    private static final int GAMEOVER_TICKS_LIMIT = MainThread.FPS * 10;
+
+    /**
+     * The clock the game reads while we run it, each tick is exactly one game tick
+     */
+    private static final class SimulatedClock extends GameClock
+    {
+        //the current time (nanoseconds)
+        private long time = 0;
+
+        /**
+         * Move the clock forward
+         * @param duration The time to add (nanoseconds)
+         */
+        private void advance(final long duration)
+        {
+            this.time += duration;
+        }
+
+        @Override
+        protected long getTimeMillis()
+        {
+            return (time / Animation.NANO_SECONDS_PER_MILLISECOND);
+        }
+
+        @Override
+        protected long getTimeNanos()
+        {
+            return time;
+        }
+    }
+
+    //the clock the game is reading
+    private final SimulatedClock clock;
+
+    //the screens of the game
+    private ScreenManager screen;
+
+    //the off screen bitmap we render into
+    private Bitmap bitmap;
+
+    //canvas to render into the bitmap
+    private final Canvas canvas;
+
+    //the number of ticks run
+    private long ticks = 0;
+
+    /**
+     * Create the game screens the same as the game panel
+     * @param activity The activity of the game, used to load the assets
+     * @param seed The seed so the same mazes and decisions happen each run
+     * @throws Exception
+     */
+    public GameHarness(final MainActivity activity, final long seed) throws Exception
+    {
+        //the versus mazes, computer and music are chosen with this random object
+        GamePanel.RANDOM = new Random(seed);
+
+        //the game reads the simulated time
+        this.clock = new SimulatedClock();
+        GameClock.setClock(clock);
+
+        //the surface normally loads the menu assets
+        Assets.loadMenu(activity);
+
+        //the panel has no surface, so it never starts the game threads
+        this.screen = new ScreenManager(new GamePanel(activity));
+
+        //no sound or vibration
+        getOptions().setIndex(OptionsScreen.INDEX_BUTTON_SOUND, 1);
+        Audio.setAudioEnabled(false);
+
+        //the bitmap we render each frame into
+        this.bitmap = Bitmap.createBitmap(GamePanel.WIDTH, GamePanel.HEIGHT, Bitmap.Config.ARGB_8888);
+        this.canvas = new Canvas(bitmap);
+    }
+
+    /**
+     * Get the screens
+     * @return The screen manager we are running
+     */
+    public ScreenManager getScreen()
+    {
+        return this.screen;
+    }
+
+    /**
+     * Get the options
+     * @return The options screen, used to choose the game mode, size, etc...
+     */
+    public OptionsScreen getOptions()
+    {
+        return getScreen().getScreenOptions();
+    }
+
+    /**
+     * Get the game
+     * @return The game, null until a game is started
+     */
+    public Game getGame()
+    {
+        return getScreen().getScreenGame().getGame();
+    }
+
+    /**
+     * Get the state
+     * @return The current state of the screens
+     */
+    public State getState()
+    {
+        return getScreen().getState();
+    }
+
+    /**
+     * Get the number of ticks
+     * @return The total ticks run
+     */
+    public long getTicks()
+    {
+        return this.ticks;
+    }
+
+    /**
+     * Run a single game tick, the same as the update thread
+     * @throws Exception
+     */
+    public void tick() throws Exception
+    {
+        clock.advance(MainThread.TICK_DURATION);
+
+        getScreen().update();
+
+        ticks++;
+    }
+
+    /**
+     * Render the screens into the off screen bitmap, the same as the render thread
+     * @throws Exception
+     */
+    public void render() throws Exception
+    {
+        getScreen().render(canvas);
+    }
+
+    /**
+     * Run a tick then render it
+     * @throws Exception
+     */
+    public void frame() throws Exception
+    {
+        tick();
+        render();
+    }
+
+    /**
+     * Touch the screen, the same as a tap on the game panel
+     * @param x x-coordinate
+     * @param y y-coordinate
+     * @throws Exception
+     */
+    public void touch(final float x, final float y) throws Exception
+    {
+        getScreen().update(MotionEvent.ACTION_DOWN, x, y);
+        getScreen().update(MotionEvent.ACTION_UP, x, y);
+    }
+
+    /**
+     * Press start on the menu and run until the game is created
+     * @throws Exception
+     */
+    public void startGame() throws Exception
+    {
+        if (getState() != State.Ready)
+            throw new IllegalStateException("The menu is not displayed: " + getState());
+
+        //press start
+        touch(FIRST_BUTTON_X, FIRST_BUTTON_Y);
+
+        //the game is only created after the splash screen has been rendered
+        frame();
+        frame();
+
+        if (getState() != State.Running)
+            throw new IllegalStateException("The game was not started: " + getState());
+    }
+
+    /**
+     * Select the first level on the level select page
+     * @throws Exception
+     */
+    public void selectLevel() throws Exception
+    {
+        touch(LEVEL_X, LEVEL_Y);
+
+        //the selection is checked on the next tick
+        tick();
+
+        if (!getGame().getLevels().hasSelection())
+            throw new IllegalStateException("The level was not selected");
+    }
+
+    /**
+     * Wait for the game over menu, then press the specified button
+     * @param x x-coordinate of the button
+     * @param next The state we expect once the button is pressed
+     * @throws Exception
+     */
+    private void pressGameover(final int x, final State next) throws Exception
+    {
+        for (int i = 0; i < GAMEOVER_TICKS_LIMIT; i++)
+        {
+            //the button does nothing until the menu is displayed
+            touch(x, FIRST_BUTTON_Y);
+
+            if (getState() == next)
+                return;
+
+            frame();
+        }
+
+        throw new IllegalStateException("The game over menu was not displayed");
+    }
+
+    /**
+     * Press next on the game over screen, to go to the next level
+     * @throws Exception
+     */
+    public void pressNext() throws Exception
+    {
+        pressGameover(FIRST_BUTTON_X, State.Running);
+    }
+
+    /**
+     * Press menu on the game over screen, to go back to the menu
+     * @throws Exception
+     */
+    public void pressMenu() throws Exception
+    {
+        pressGameover(MENU_BUTTON_X, State.Ready);
+    }
+
+    @Override
+    public void dispose()
+    {
+        if (screen != null)
+        {
+            screen.dispose();
+            screen = null;
+        }
+
+        if (bitmap != null)
+        {
+            bitmap.recycle();
+            bitmap = null;
+        }
+
+        //the game reads the system time again
+        GameClock.setClock(null);
+
+        //recycle all asset objects
+        Assets.recycle();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.gamesbykevin.maze.test;
+
+import android.content.Intent;
+import android.test.ActivityUnitTestCase;
+import android.util.Log;
+
+import com.gamesbykevin.maze.MainActivity;
+import com.gamesbykevin.maze.game.Game;
+import com.gamesbykevin.maze.player.Cpu;
+import com.gamesbykevin.maze.player.Cpu.Strategy;
+import com.gamesbykevin.maze.screen.OptionsScreen;
+import com.gamesbykevin.maze.screen.ScreenManager.State;
+import com.gamesbykevin.maze.thread.MainThread;
+
+/**
+ * Play versus mazes with the game logic as fast as the cpu allows.<br>
+ * The human is played by the debug auto-play and the computer by each strategy, every tick runs the real game update.<br>
+ * The results are written to the log, the test fails if a maze is never solved.
+ * @author GOD
+ */
+public final class SimulationTest extends ActivityUnitTestCase<MainActivity>
+{
+    /**
+     * The tag of the results in the log
+     */
+    private static final String TAG = "Simulation";
+
+    /**
+     * The number of mazes solved by each computer strategy
+     */
+    private static final int MAZES = 200;
+
+    /**
+     * The seed so the same mazes are played each run
+     */
+    private static final long SEED = 0;
+
+    /**
+     * The size index of the mazes
+     */
+    private static final int SIZE = 0;
+
+    /**
+     * The most ticks we will allow for each room before we consider the players stuck
+     */
+    private static final int TICKS_PER_ROOM_LIMIT = 100;
+
+    /**
+     * The longest we will wait for a maze to be generated (nanoseconds)
+     */
+    private static final long GENERATION_LIMIT = 60000000000L;
+
+    /**
+     * The number of nanoseconds in a second
+     */
+    private static final double NANO_SECONDS_PER_SECOND = 1000000000.0;
+
+    //the game we are running
+    private GameHarness harness;
+
+    public SimulationTest()
+    {
+        super(MainActivity.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        //the activity is created but never displayed, so the game panel never starts
+        startActivity(new Intent(getInstrumentation().getTargetContext(), MainActivity.class), null, null);
+
+        this.harness = new GameHarness(getActivity(), SEED);
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        if (harness != null)
+        {
+            harness.dispose();
+            harness = null;
+        }
+
+        super.tearDown();
+    }
+
+    /**
+     * Play versus mazes against each computer strategy
+     * @throws Exception
+     */
+    public void testVersus() throws Exception
+    {
+        for (int index = 0; index < Strategy.values().length; index++)
+        {
+            run(index);
+        }
+    }
+
+    /**
+     * Play the versus mazes against a single computer strategy
+     * @param opponent The opponent index of the options
+     * @throws Exception
+     */
+    private void run(final int opponent) throws Exception
+    {
+        //versus the chosen computer on the chosen size, isometric so nothing is pre-rendered until it is on screen
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_MODE, 2);
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_SIZE, SIZE);
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_RENDER, 0);
+        harness.getOptions().setIndex(OptionsScreen.INDEX_BUTTON_OPPONENT, opponent);
+
+        //start from the menu every time
+        harness.startGame();
+
+        final Game game = harness.getGame();
+
+        //the strategy the computer is using
+        final Strategy key = Cpu.getStrategy(opponent);
+
+        //the totals of every maze
+        int wins = 0, losses = 0;
+        long playTicks = 0, generationTime = 0, solveTime = 0;
+
+        for (int maze = 0; maze < MAZES; maze++)
+        {
+            //track the time generating, the maze is generated on the worker thread and handed off by a tick
+            long time = System.nanoTime();
+
+            do
+            {
+                harness.tick();
+
+                if (System.nanoTime() - time > GENERATION_LIMIT)
+                    fail("Maze " + maze + " was not generated");
+            }
+            while (!game.getLabyrinth().isGenerated());
+
+            generationTime += System.nanoTime() - time;
+
+            //the players can't move until the count down is done
+            while (!game.getCountdown().hasCompleted())
+            {
+                harness.tick();
+            }
+
+            //don't let stuck players run forever
+            final long limit = (long)game.getLabyrinth().getMaze().getCols() * game.getLabyrinth().getMaze().getRows() * TICKS_PER_ROOM_LIMIT;
+
+            //track the time solving
+            time = System.nanoTime();
+
+            long ticks = 0;
+
+            while (harness.getState() == State.Running)
+            {
+                harness.tick();
+
+                if (++ticks > limit)
+                    fail("Maze " + maze + " was not solved against " + key);
+            }
+
+            solveTime += System.nanoTime() - time;
+            playTicks += ticks;
+
+            assertEquals("Maze " + maze, State.GameOver, harness.getState());
+
+            //who reached the goal first
+            if (game.getHuman().hasGoal())
+            {
+                wins++;
+            }
+            else
+            {
+                losses++;
+            }
+
+            //go to the next maze
+            if (maze < MAZES - 1)
+                harness.pressNext();
+        }
+
+        //go back to the menu for the next strategy
+        harness.pressMenu();
+        harness.tick();
+
+        Log.i(TAG, key + " size " + SIZE +
+            ": mazes " + MAZES +
+            ", human wins " + wins +
+            ", computer wins " + losses +
+            ", ticks " + playTicks +
+            " (" + (playTicks / MainThread.FPS) + " seconds of game time)" +
+            ", ticks/second " + (long)(solveTime == 0 ? 0 : playTicks / (solveTime / NANO_SECONDS_PER_SECOND)) +
+            ", generation " + (generationTime / MAZES / 1000) + "us/maze" +
+            ", solve " + (solveTime / MAZES / 1000) + "us/maze");
+    }
+}
\ No newline at end of file